@@ -0,0 +1,538 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An abstract implementation of an examiner which is told about each part of an examination as it
+ * happens, rather than being given the examined children of each value.
+ *
+ * <p>For each examined value, either a single leaf event ({@link #nil()}, {@link #scalar(Object)} or
+ * one of the {@code value} methods) is emitted, or a {@code begin} event, followed by the events of
+ * each child, followed by the matching {@code end} event:</p>
+ * <ul>
+ *   <li>examinables emit {@link #property(String)} before the events of each property value</li>
+ *   <li>maps emit the events of each key, followed by the events of its value</li>
+ *   <li>arrays and collections emit the events of each element</li>
+ * </ul>
+ *
+ * <p>As no child results need to be held on to, output can be written as it is produced - with
+ * memory use proportional only to the depth of the examined graph.</p>
+ *
+ * <p>Events are emitted on the examining thread, so an event examiner must not be used for more
+ * than one examination at a time.</p>
+ *
+ * @param <R> the result type
+ * @since 1.4.0
+ */
+public abstract class AbstractEventExaminer<R> implements Examiner<R> {
+  private final Emitter emitter = new Emitter();
+
+  /**
+   * Gets the result of an examination, once all of its events have been emitted.
+   *
+   * <p>This is called once at the end of each examination.</p>
+   *
+   * @return the result
+   * @since 1.4.0
+   */
+  protected abstract @NotNull R result();
+
+  /**
+   * Begins examining an examinable.
+   *
+   * @param name the examinable name
+   * @since 1.4.0
+   */
+  protected abstract void beginExaminable(final @NotNull String name);
+
+  /**
+   * Begins examining an examinable property - the events of its value will follow.
+   *
+   * @param name the property name
+   * @since 1.4.0
+   */
+  protected abstract void property(final @NotNull String name);
+
+  /**
+   * Ends examining an examinable.
+   *
+   * @since 1.4.0
+   */
+  protected abstract void endExaminable();
+
+  /**
+   * Begins examining a collection or stream.
+   *
+   * <p>When a {@link Projection} or {@link CancellationToken} leaves elements out, fewer than
+   * {@code size} elements may follow.</p>
+   *
+   * @param size the number of elements, or {@code -1} if not known
+   * @since 1.4.0
+   */
+  protected abstract void beginCollection(final int size);
+
+  /**
+   * Ends examining a collection or stream.
+   *
+   * @since 1.4.0
+   */
+  protected abstract void endCollection();
+
+  /**
+   * Begins examining an array.
+   *
+   * <p>When a {@link Projection} or {@link CancellationToken} leaves elements out, fewer than
+   * {@code length} elements may follow.</p>
+   *
+   * @param length the number of elements
+   * @since 1.4.0
+   */
+  protected abstract void beginArray(final int length);
+
+  /**
+   * Ends examining an array.
+   *
+   * @since 1.4.0
+   */
+  protected abstract void endArray();
+
+  /**
+   * Begins examining a map.
+   *
+   * <p>When a {@link Projection} or {@link CancellationToken} leaves entries out, fewer than
+   * {@code size} entries may follow.</p>
+   *
+   * @param size the number of entries
+   * @since 1.4.0
+   */
+  protected abstract void beginMap(final int size);
+
+  /**
+   * Ends examining a map.
+   *
+   * @since 1.4.0
+   */
+  protected abstract void endMap();
+
+  /**
+   * Examines {@code null}.
+   *
+   * @since 1.4.0
+   */
+  protected abstract void nil();
+
+  /**
+   * Examines a scalar value.
+   *
+   * @param value the scalar value
+   * @since 1.4.0
+   */
+  protected abstract void scalar(final @NotNull Object value);
+
+  /**
+   * Examines a string.
+   *
+   * @param value the value
+   * @since 1.4.0
+   */
+  protected abstract void value(final @NotNull String value);
+
+  /**
+   * Examines a boolean.
+   *
+   * @param value the value
+   * @since 1.4.0
+   */
+  protected abstract void value(final boolean value);
+
+  /**
+   * Examines a byte.
+   *
+   * @param value the value
+   * @since 1.4.0
+   */
+  protected abstract void value(final byte value);
+
+  /**
+   * Examines a char.
+   *
+   * @param value the value
+   * @since 1.4.0
+   */
+  protected abstract void value(final char value);
+
+  /**
+   * Examines a double.
+   *
+   * @param value the value
+   * @since 1.4.0
+   */
+  protected abstract void value(final double value);
+
+  /**
+   * Examines a float.
+   *
+   * @param value the value
+   * @since 1.4.0
+   */
+  protected abstract void value(final float value);
+
+  /**
+   * Examines a int.
+   *
+   * @param value the value
+   * @since 1.4.0
+   */
+  protected abstract void value(final int value);
+
+  /**
+   * Examines a long.
+   *
+   * @param value the value
+   * @since 1.4.0
+   */
+  protected abstract void value(final long value);
+
+  /**
+   * Examines a short.
+   *
+   * @param value the value
+   * @since 1.4.0
+   */
+  protected abstract void value(final short value);
+
+  @Override
+  public @NotNull R examine(final @NotNull Examinable examinable) {
+    this.emitter.examine(examinable);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final @NotNull String name, final @NotNull Stream<? extends ExaminableProperty> properties) {
+    this.emitter.examine(name, properties);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final @Nullable Object value) {
+    this.emitter.examine(value);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final boolean value) {
+    this.emitter.examine(value);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final boolean@Nullable[] values) {
+    this.emitter.examine(values);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final byte value) {
+    this.emitter.examine(value);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final byte@Nullable[] values) {
+    this.emitter.examine(values);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final char value) {
+    this.emitter.examine(value);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final char@Nullable[] values) {
+    this.emitter.examine(values);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final double value) {
+    this.emitter.examine(value);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final double@Nullable[] values) {
+    this.emitter.examine(values);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final float value) {
+    this.emitter.examine(value);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final float@Nullable[] values) {
+    this.emitter.examine(values);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final int value) {
+    this.emitter.examine(value);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final int@Nullable[] values) {
+    this.emitter.examine(values);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final long value) {
+    this.emitter.examine(value);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final long@Nullable[] values) {
+    this.emitter.examine(values);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final short value) {
+    this.emitter.examine(value);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final short@Nullable[] values) {
+    this.emitter.examine(values);
+    return this.result();
+  }
+
+  @Override
+  public @NotNull R examine(final @Nullable String value) {
+    this.emitter.examine(value);
+    return this.result();
+  }
+
+  /*
+   * Drives the events, using the same traversal as every other examiner.
+   *
+   * Children are examined lazily as each hook consumes them, so the begin event of a container is
+   * emitted before the events of its children. Examinables and their properties are begun from the
+   * enter hooks, which are called before anything beneath them is examined. Visited properties have
+   * had their events emitted by the time they are built, so the emitter is its own builder.
+   */
+  private final class Emitter extends AbstractExaminer<Object> implements AbstractExaminer.ExaminableBuilder<Object> {
+    @Override
+    void enterExaminable(final @NotNull String name) {
+      AbstractEventExaminer.this.beginExaminable(name);
+    }
+
+    @Override
+    void enterProperty(final @NotNull String name) {
+      AbstractEventExaminer.this.property(name);
+    }
+
+    @Override
+    protected @NotNull Object examinable(final @NotNull String name, final @NotNull Stream<Map.Entry<String, Object>> properties) {
+      consume(properties);
+      AbstractEventExaminer.this.endExaminable();
+      return this;
+    }
+
+    @Override
+    protected @NotNull ExaminableBuilder<Object> examinable(final @NotNull String name) {
+      return this;
+    }
+
+    @Override
+    public void property(final @NotNull String name, final @NotNull Object value) {
+    }
+
+    @Override
+    public @NotNull Object build() {
+      AbstractEventExaminer.this.endExaminable();
+      return this;
+    }
+
+    @Override
+    protected <E> @NotNull Object array(final E@NotNull[] array, final @NotNull Stream<Object> elements) {
+      AbstractEventExaminer.this.beginArray(array.length);
+      consume(elements);
+      AbstractEventExaminer.this.endArray();
+      return this;
+    }
+
+    @Override
+    protected @NotNull Object array(final int length, final @NotNull IntFunction<Object> value) {
+      AbstractEventExaminer.this.beginArray(length);
+      for (int i = 0; i < length; i++) {
+        value.apply(i);
+      }
+      AbstractEventExaminer.this.endArray();
+      return this;
+    }
+
+    @Override
+    protected <E> @NotNull Object collection(final @NotNull Collection<E> collection, final @NotNull Stream<Object> elements) {
+      AbstractEventExaminer.this.beginCollection(collection.size());
+      consume(elements);
+      AbstractEventExaminer.this.endCollection();
+      return this;
+    }
+
+    @Override
+    protected <K, V> @NotNull Object map(final @NotNull Map<K, V> map, final @NotNull Stream<Map.Entry<Object, Object>> entries) {
+      AbstractEventExaminer.this.beginMap(map.size());
+      consume(entries);
+      AbstractEventExaminer.this.endMap();
+      return this;
+    }
+
+    @Override
+    protected @NotNull Object nil() {
+      AbstractEventExaminer.this.nil();
+      return this;
+    }
+
+    @Override
+    protected @NotNull Object scalar(final @NotNull Object value) {
+      AbstractEventExaminer.this.scalar(value);
+      return this;
+    }
+
+    @Override
+    protected <T> @NotNull Object stream(final @NotNull Stream<T> stream) {
+      AbstractEventExaminer.this.beginCollection(-1);
+      stream.forEachOrdered(this::examine);
+      AbstractEventExaminer.this.endCollection();
+      return this;
+    }
+
+    @Override
+    protected @NotNull Object stream(final @NotNull DoubleStream stream) {
+      AbstractEventExaminer.this.beginCollection(-1);
+      stream.forEachOrdered(this::examine);
+      AbstractEventExaminer.this.endCollection();
+      return this;
+    }
+
+    @Override
+    protected @NotNull Object stream(final @NotNull IntStream stream) {
+      AbstractEventExaminer.this.beginCollection(-1);
+      stream.forEachOrdered(this::examine);
+      AbstractEventExaminer.this.endCollection();
+      return this;
+    }
+
+    @Override
+    protected @NotNull Object stream(final @NotNull LongStream stream) {
+      AbstractEventExaminer.this.beginCollection(-1);
+      stream.forEachOrdered(this::examine);
+      AbstractEventExaminer.this.endCollection();
+      return this;
+    }
+
+    @Override
+    public @NotNull Object examine(final @Nullable String value) {
+      if (value == null) return this.nil();
+      AbstractEventExaminer.this.value(value);
+      return this;
+    }
+
+    @Override
+    public @NotNull Object examine(final boolean value) {
+      AbstractEventExaminer.this.value(value);
+      return this;
+    }
+
+    @Override
+    public @NotNull Object examine(final byte value) {
+      AbstractEventExaminer.this.value(value);
+      return this;
+    }
+
+    @Override
+    public @NotNull Object examine(final char value) {
+      AbstractEventExaminer.this.value(value);
+      return this;
+    }
+
+    @Override
+    public @NotNull Object examine(final double value) {
+      AbstractEventExaminer.this.value(value);
+      return this;
+    }
+
+    @Override
+    public @NotNull Object examine(final float value) {
+      AbstractEventExaminer.this.value(value);
+      return this;
+    }
+
+    @Override
+    public @NotNull Object examine(final int value) {
+      AbstractEventExaminer.this.value(value);
+      return this;
+    }
+
+    @Override
+    public @NotNull Object examine(final long value) {
+      AbstractEventExaminer.this.value(value);
+      return this;
+    }
+
+    @Override
+    public @NotNull Object examine(final short value) {
+      AbstractEventExaminer.this.value(value);
+      return this;
+    }
+  }
+
+  // not Stream#count, which may skip examining the elements entirely
+  private static void consume(final @NotNull Stream<?> stream) {
+    final Iterator<?> it = stream.iterator();
+    while (it.hasNext()) {
+      it.next();
+    }
+  }
+}
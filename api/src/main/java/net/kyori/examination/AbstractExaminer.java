@@ -23,10 +23,15 @@
  */
 package net.kyori.examination;
 
+import java.nio.Buffer;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.stream.BaseStream;
 import java.util.stream.DoubleStream;
@@ -43,10 +48,32 @@ import org.jetbrains.annotations.Nullable;
  * @since 1.0.0
  */
 public abstract class AbstractExaminer<R> implements Examiner<R> {
+  // examinables which push their properties to a visitor, rather than only providing a stream
+  private static final ClassValue<Boolean> VISITS_PROPERTIES = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(final Class<?> type) {
+      try {
+        return type.getMethod("examineProperties", PropertyVisitor.class).getDeclaringClass() != Examinable.class;
+      } catch (final NoSuchMethodException e) {
+        return false;
+      }
+    }
+  };
+  // a value left out of a projection
+  private static final Object SKIPPED = new Object();
+
+  // whether an examinable pushes its properties to a visitor, rather than only providing a stream
+  static boolean visitsProperties(final @NotNull Examinable examinable) {
+    return VISITS_PROPERTIES.get(examinable.getClass());
+  }
+
   @Override
   public @NotNull R examine(final @Nullable Object value) {
+    // an instanceof chain rather than a pattern switch, which would be linked through invokedynamic on the first examination
     if (value == null) {
       return this.nil();
+    } else if (CancellationToken.tripped()) {
+      return this.truncated();
     } else if (value instanceof String) {
       return this.examine((String) value);
     } else if (value instanceof Examinable) {
@@ -106,9 +133,32 @@ public abstract class AbstractExaminer<R> implements Examiner<R> {
         return this.stream((LongStream) value);
       }
     }
+    final TypeAdapter<Object> adapter = TypeAdapters.adapter(value.getClass());
+    if (adapter != null) {
+      return adapter.examine(this, value);
+    } else if (value instanceof Buffer) {
+      final R buffer = Buffers.examine(this, (Buffer) value);
+      if (buffer != null) return buffer;
+    }
     return this.scalar(value);
   }
 
+  // examines how many elements remain in a buffer, and up to a window of them, each examined by element
+  @NotNull R buffer(final @NotNull String name, final @NotNull Buffer buffer, final @NotNull IntFunction<R> element) {
+    final int remaining = buffer.remaining();
+    final int count = Math.min(remaining, Buffers.WINDOW);
+    this.enterExaminable(name);
+    this.enterProperty("remaining");
+    final R examinedRemaining = this.examine(remaining);
+    this.enterProperty("elements");
+    // a truncation marker stands in for the elements beyond the window
+    final R elements = this.array(count < remaining ? count + 1 : count, index -> index < count ? element.apply(index) : this.truncated());
+    return this.examinable(name, Stream.of(
+      new AbstractMap.SimpleImmutableEntry<>("remaining", examinedRemaining),
+      new AbstractMap.SimpleImmutableEntry<>("elements", elements)
+    ));
+  }
+
   /**
    * Examines an array.
    *
@@ -117,7 +167,7 @@ public abstract class AbstractExaminer<R> implements Examiner<R> {
    * @return the result from examining an array
    */
   private <E> @NotNull R array(final E@NotNull[] array) {
-    return this.array(array, Arrays.stream(array).map(this::examine));
+    return this.array(array, this.elements(Arrays.stream(array)));
   }
 
   /**
@@ -138,7 +188,32 @@ public abstract class AbstractExaminer<R> implements Examiner<R> {
    * @return the result from examining a collection
    */
   private <E> @NotNull R collection(final @NotNull Collection<E> collection) {
-    return this.collection(collection, collection.stream().map(this::examine));
+    return this.collection(collection, this.elements(collection.stream()));
+  }
+
+  // examines each element which is projected, until cancelled
+  private <E> @NotNull Stream<R> elements(final @NotNull Stream<E> elements) {
+    final CancellationToken token = CancellationToken.current();
+    final Projection.State projection = Projection.current();
+    if (token == null && projection == null) {
+      return elements.map(this::examine);
+    }
+    if (projection == null) {
+      return this.children(elements, token, this::examine, element -> this.truncated());
+    }
+    final int[] index = {0};
+    return this.children(elements, token, element -> {
+      final Projection.State child = projection.element(index[0]++);
+      if (child == null) return null;
+      final Object value = this.projection(child, element);
+      return value == SKIPPED ? null : this.projected(child, value);
+    }, element -> this.truncated());
+  }
+
+  // examines children, leaving out those examined to null, until the token trips
+  private <T, U> @NotNull Stream<U> children(final @NotNull Stream<T> source, final @Nullable CancellationToken token, final @NotNull Function<? super T, ? extends U> examine, final @NotNull Function<? super T, ? extends U> marker) {
+    final Stream<U> children = token == null ? source.map(examine) : CancellationToken.truncating(source, token, examine, marker);
+    return children.filter(Objects::nonNull);
   }
 
   /**
@@ -151,9 +226,86 @@ public abstract class AbstractExaminer<R> implements Examiner<R> {
    */
   protected abstract <E> @NotNull R collection(final @NotNull Collection<E> collection, final @NotNull Stream<R> elements);
 
+  @Override
+  public @NotNull R examine(final @NotNull Examinable examinable) {
+    final References references = References.current();
+    final int id = references == null ? 0 : references.id(examinable);
+    if (id < 0) return this.reference(-id);
+    final String name = id == 0 ? examinable.examinableName() : examinable.examinableName() + '@' + id;
+    if (!VISITS_PROPERTIES.get(examinable.getClass())) {
+      return this.examine(name, examinable.examinableProperties());
+    }
+    this.enterExaminable(name);
+    final ExaminableBuilder<R> builder = this.examinable(name);
+    examinable.examineProperties(new Properties(builder, CancellationToken.current(), Projection.current()));
+    return builder.build();
+  }
+
   @Override
   public @NotNull R examine(final @NotNull String name, final @NotNull Stream<? extends ExaminableProperty> properties) {
-    return this.examinable(name, properties.map(property -> new AbstractMap.SimpleImmutableEntry<>(property.name(), property.examine(this))));
+    final CancellationToken token = CancellationToken.current();
+    final Projection.State projection = Projection.current();
+    this.enterExaminable(name);
+    if (token == null && projection == null) {
+      return this.examinable(name, properties.map(this::property));
+    }
+    final Stream<Map.Entry<String, R>> entries = this.children(properties, token, property -> {
+      if (projection == null) return this.property(property);
+      final R value = this.property(projection, property);
+      return value == null ? null : new AbstractMap.SimpleImmutableEntry<>(property.name(), value);
+    }, property -> {
+      this.enterProperty(property.name());
+      return new AbstractMap.SimpleImmutableEntry<>(property.name(), this.truncated());
+    });
+    return this.examinable(name, entries);
+  }
+
+  // examines a property
+  private Map.@NotNull Entry<String, R> property(final @NotNull ExaminableProperty property) {
+    this.enterProperty(property.name());
+    return new AbstractMap.SimpleImmutableEntry<>(property.name(), property.examine(this));
+  }
+
+  // examines the value of a property, if it is projected
+  private @Nullable R property(final Projection.@NotNull State projection, final @NotNull ExaminableProperty property) {
+    final Projection.State child = projection.property(property.name());
+    if (child == null) return null;
+    if (child.included) {
+      this.enterProperty(property.name());
+      return this.examine(child, property);
+    }
+    final Object value = this.projection(child, property.examine(ValueExaminer.INSTANCE));
+    if (value == SKIPPED) return null;
+    this.enterProperty(property.name());
+    return this.projected(child, value);
+  }
+
+  // what to examine of a value along the way to a path to include - only values which can contain more, otherwise SKIPPED
+  private @Nullable Object projection(final Projection.@NotNull State state, final @Nullable Object value) {
+    if (state.included || value instanceof Examinable || value instanceof Collection<?> || value instanceof Map<?, ?> || value instanceof Object[]) {
+      return value;
+    }
+    final Examinable examinable = value == null ? null : TypeAdapters.examinable(value);
+    return examinable == null ? SKIPPED : examinable;
+  }
+
+  // examines a value with the projection of it
+  private @NotNull R projected(final Projection.@NotNull State state, final @Nullable Object value) {
+    final Projection.State previous = Projection.enter(state);
+    try {
+      return this.examine(value);
+    } finally {
+      Projection.exit(previous);
+    }
+  }
+
+  private @NotNull R examine(final Projection.@NotNull State state, final @NotNull ExaminableProperty property) {
+    final Projection.State previous = Projection.enter(state);
+    try {
+      return property.examine(this);
+    } finally {
+      Projection.exit(previous);
+    }
   }
 
   /**
@@ -165,6 +317,21 @@ public abstract class AbstractExaminer<R> implements Examiner<R> {
    */
   protected abstract @NotNull R examinable(final @NotNull String name, final @NotNull Stream<Map.Entry<String, R>> properties);
 
+  /**
+   * Begins examining an examinable which {@linkplain Examinable#examineProperties(PropertyVisitor) visits} its properties.
+   *
+   * <p>Each property is given to the returned builder as soon as it is examined. By default, the properties are
+   * held on to until all have been visited, and then given to {@link #examinable(String, Stream)} - examiners which
+   * can build their result as properties arrive can override this to avoid holding on to them.</p>
+   *
+   * @param name the examinable name
+   * @return a builder for the result from examining the examinable
+   * @since 1.4.0
+   */
+  protected @NotNull ExaminableBuilder<R> examinable(final @NotNull String name) {
+    return new Entries(name);
+  }
+
   /**
    * Examines a map.
    *
@@ -174,7 +341,22 @@ public abstract class AbstractExaminer<R> implements Examiner<R> {
    * @return the result from examining a map
    */
   private <K, V> @NotNull R map(final @NotNull Map<K, V> map) {
-    return this.map(map, map.entrySet().stream().map(entry -> new AbstractMap.SimpleImmutableEntry<>(this.examine(entry.getKey()), this.examine(entry.getValue()))));
+    final CancellationToken token = CancellationToken.current();
+    final Projection.State projection = Projection.current();
+    if (token == null && projection == null) {
+      return this.map(map, map.entrySet().stream().map(entry -> new AbstractMap.SimpleImmutableEntry<>(this.examine(entry.getKey()), this.examine(entry.getValue()))));
+    }
+    final Stream<Map.Entry<R, R>> entries = this.children(map.entrySet().stream(), token, entry -> {
+      if (projection == null) return new AbstractMap.SimpleImmutableEntry<>(this.examine(entry.getKey()), this.examine(entry.getValue()));
+      final Projection.State child = projection.entry(entry.getKey());
+      if (child == null) return null;
+      final Object value = this.projection(child, entry.getValue());
+      if (value == SKIPPED) return null;
+      // the key is examined first, as examiners producing events expect it before the value
+      final R key = this.examine(entry.getKey());
+      return new AbstractMap.SimpleImmutableEntry<>(key, this.projected(child, value));
+    }, entry -> new AbstractMap.SimpleImmutableEntry<>(this.truncated(), this.truncated()));
+    return this.map(map, entries);
   }
 
   /**
@@ -203,6 +385,53 @@ public abstract class AbstractExaminer<R> implements Examiner<R> {
    */
   protected abstract @NotNull R scalar(final @NotNull Object value);
 
+  /**
+   * Examines a scalar value, which is written as text by {@code writer}.
+   *
+   * <p>By default, the value is written to a new builder, and the text examined by {@link #scalar(Object)}. Examiners
+   * which produce text can override this to write the value straight into their result.</p>
+   *
+   * @param value the scalar value
+   * @param writer the writer
+   * @param <T> the type
+   * @return the result from examining a scalar
+   * @since 1.4.0
+   */
+  protected <T> @NotNull R scalar(final @NotNull T value, final TypeAdapter.@NotNull Writer<? super T> writer) {
+    final StringBuilder builder = new StringBuilder();
+    writer.write(value, builder);
+    return this.scalar(builder.toString());
+  }
+
+  /**
+   * Examines what is left of a value once a {@link CancellationToken} has tripped.
+   *
+   * @return the result from examining what was left
+   * @since 1.4.0
+   */
+  protected @NotNull R truncated() {
+    return this.scalar("...");
+  }
+
+  /**
+   * Examines a reference back to an examinable already examined, when examining with {@link References}.
+   *
+   * @param id the id of the examinable
+   * @return the result from examining a reference
+   * @since 1.4.0
+   */
+  protected @NotNull R reference(final int id) {
+    return this.scalar("@" + id);
+  }
+
+  // called once an examinable is named, before any of its properties are examined
+  void enterExaminable(final @NotNull String name) {
+  }
+
+  // called before each property of an examinable which is left in is examined
+  void enterProperty(final @NotNull String name) {
+  }
+
   /**
    * Examines a stream.
    *
@@ -285,11 +514,282 @@ public abstract class AbstractExaminer<R> implements Examiner<R> {
   }
 
   /**
-   * Examines an array.
+   * Examines an array of primitives.
+   *
+   * <p>Every element is examined, even under a {@link CancellationToken} which trips part way through.</p>
    *
    * @param length the length of the array
    * @param value the index to examined value function
    * @return the result from examining the array
    */
   protected abstract @NotNull R array(final int length, final IntFunction<R> value);
+
+  /**
+   * Builds the result from examining an examinable, from each of its properties as they are examined.
+   *
+   * @param <R> the result type
+   * @see #examinable(String)
+   * @since 1.4.0
+   */
+  protected interface ExaminableBuilder<R> {
+    /**
+     * Adds an examined property.
+     *
+     * @param name the property name
+     * @param value the result from examining the property value
+     * @since 1.4.0
+     */
+    void property(final @NotNull String name, final @NotNull R value);
+
+    /**
+     * Builds the result, once every property has been added.
+     *
+     * @return the result from examining the examinable
+     * @since 1.4.0
+     */
+    @NotNull R build();
+  }
+
+  // holds on to each property, until all can be given to examinable(String, Stream)
+  private final class Entries implements ExaminableBuilder<R> {
+    private final String name;
+    private final List<Map.Entry<String, R>> entries = new ArrayList<>();
+
+    Entries(final @NotNull String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void property(final @NotNull String name, final @NotNull R value) {
+      this.entries.add(new AbstractMap.SimpleImmutableEntry<>(name, value));
+    }
+
+    @Override
+    public @NotNull R build() {
+      return AbstractExaminer.this.examinable(this.name, this.entries.stream());
+    }
+  }
+
+  // examines each property as it is visited, giving it straight to the builder
+  private final class Properties implements PropertyVisitor {
+    private final ExaminableBuilder<R> builder;
+    private final @Nullable CancellationToken token;
+    private final Projection.@Nullable State projection;
+    // without a token or projection, typed values are examined as they are visited
+    private final boolean direct;
+    private boolean truncated;
+
+    Properties(final @NotNull ExaminableBuilder<R> builder, final @Nullable CancellationToken token, final Projection.@Nullable State projection) {
+      this.builder = builder;
+      this.token = token;
+      this.projection = projection;
+      this.direct = token == null && projection == null;
+    }
+
+    @Override
+    public void visit(final @NotNull ExaminableProperty property) {
+      if (this.direct) {
+        AbstractExaminer.this.enterProperty(property.name());
+        this.builder.property(property.name(), property.examine(AbstractExaminer.this));
+        return;
+      }
+      // once the token trips, the next property is truncated and the rest are skipped
+      if (this.truncated) return;
+      if (this.token != null && this.token.cancelled()) {
+        this.truncated = true;
+        AbstractExaminer.this.enterProperty(property.name());
+        this.builder.property(property.name(), AbstractExaminer.this.truncated());
+        return;
+      }
+      if (this.projection == null) {
+        AbstractExaminer.this.enterProperty(property.name());
+        this.builder.property(property.name(), property.examine(AbstractExaminer.this));
+        return;
+      }
+      final R value = AbstractExaminer.this.property(this.projection, property);
+      if (value != null) {
+        this.builder.property(property.name(), value);
+      }
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final @Nullable Object value) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, value));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(value));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final @Nullable String value) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, value));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(value));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final boolean value) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, value));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(value));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final boolean@Nullable[] values) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, values));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(values));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final byte value) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, value));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(value));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final byte@Nullable[] values) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, values));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(values));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final char value) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, value));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(value));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final char@Nullable[] values) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, values));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(values));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final double value) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, value));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(value));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final double@Nullable[] values) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, values));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(values));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final float value) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, value));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(value));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final float@Nullable[] values) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, values));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(values));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final int value) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, value));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(value));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final int@Nullable[] values) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, values));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(values));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final long value) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, value));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(value));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final long@Nullable[] values) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, values));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(values));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final short value) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, value));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(value));
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final short@Nullable[] values) {
+      if (!this.direct) {
+        this.visit(ExaminableProperty.of(name, values));
+        return;
+      }
+      AbstractExaminer.this.enterProperty(name);
+      this.builder.property(name, AbstractExaminer.this.examine(values));
+    }
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * NIO buffers, which are examined as the number of elements remaining and up to a window of those elements,
+ * read in place with absolute gets so that neither the contents are copied nor the position changed.
+ *
+ * Elements are examined as the elements of an array of the same type would be, except for bytes, which are
+ * written in hex.
+ */
+final class Buffers {
+  // the most elements examined, from the position
+  static final int WINDOW = 64;
+  // each byte in hex, so that examining one builds nothing
+  private static final String[] HEX = new String[256];
+
+  static {
+    for (int i = 0; i < HEX.length; i++) {
+      HEX[i] = new String(new char[]{Character.forDigit(i >>> 4, 16), Character.forDigit(i & 0xf, 16)});
+    }
+  }
+
+  private Buffers() {
+  }
+
+  static <R> @Nullable R examine(final @NotNull AbstractExaminer<R> examiner, final @NotNull Buffer buffer) {
+    final int position = buffer.position();
+    if (buffer instanceof ByteBuffer) {
+      final ByteBuffer bytes = (ByteBuffer) buffer;
+      return examiner.buffer("ByteBuffer", buffer, index -> examiner.scalar(HEX[bytes.get(position + index) & 0xff]));
+    } else if (buffer instanceof CharBuffer) {
+      final CharBuffer chars = (CharBuffer) buffer;
+      return examiner.buffer("CharBuffer", buffer, index -> examiner.examine(chars.get(position + index)));
+    } else if (buffer instanceof DoubleBuffer) {
+      final DoubleBuffer doubles = (DoubleBuffer) buffer;
+      return examiner.buffer("DoubleBuffer", buffer, index -> examiner.examine(doubles.get(position + index)));
+    } else if (buffer instanceof FloatBuffer) {
+      final FloatBuffer floats = (FloatBuffer) buffer;
+      return examiner.buffer("FloatBuffer", buffer, index -> examiner.examine(floats.get(position + index)));
+    } else if (buffer instanceof IntBuffer) {
+      final IntBuffer ints = (IntBuffer) buffer;
+      return examiner.buffer("IntBuffer", buffer, index -> examiner.examine(ints.get(position + index)));
+    } else if (buffer instanceof LongBuffer) {
+      final LongBuffer longs = (LongBuffer) buffer;
+      return examiner.buffer("LongBuffer", buffer, index -> examiner.examine(longs.get(position + index)));
+    } else if (buffer instanceof ShortBuffer) {
+      final ShortBuffer shorts = (ShortBuffer) buffer;
+      return examiner.buffer("ShortBuffer", buffer, index -> examiner.examine(shorts.get(position + index)));
+    }
+    // a kind of buffer we do not know how to read
+    return null;
+  }
+}
@@ -0,0 +1,358 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An examiner which caches the result of examining each {@link VersionedExaminable}, reusing it for as
+ * long as the examinable's version does not change.
+ *
+ * <p>Output is produced by the wrapped examiner, so results are the same as examining with it directly.
+ * When a versioned examinable has changed it is examined again, but any nested versioned examinables
+ * which have not changed are taken from the cache.</p>
+ *
+ * <p>Examinables are cached by identity, and are only weakly held.</p>
+ *
+ * <p>Only the hooks of the wrapped examiner, and its {@code examine} methods for strings, primitives and
+ * primitive arrays, are used. Objects, examinables and their properties are examined by this examiner, so
+ * that nested examinables can be taken from the cache - overriding {@link #examine(Object)},
+ * {@link #examine(Examinable)} or {@link #examine(String, Stream)} on the wrapped examiner has no effect.</p>
+ *
+ * @param <R> the result type
+ * @since 1.4.0
+ */
+public final class CachingExaminer<R> extends AbstractExaminer<R> {
+  private final AbstractExaminer<R> examiner;
+  private final Function<? super R, ? extends Supplier<? extends R>> retainer;
+  private final Map<Object, Cached<R>> cache = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+  /**
+   * Creates a caching examiner.
+   *
+   * <p>Results of {@code examiner} must be safe to reuse, such as a {@code String}.</p>
+   *
+   * @param examiner the examiner to produce results with
+   * @param <R> the result type
+   * @return a caching examiner
+   * @since 1.4.0
+   */
+  public static <R> @NotNull CachingExaminer<R> of(final @NotNull AbstractExaminer<R> examiner) {
+    return new CachingExaminer<>(examiner, result -> () -> result);
+  }
+
+  /**
+   * Creates a caching examiner.
+   *
+   * <p>The {@code retainer} is given each result before it is cached, and provides the result
+   * whenever it is reused - for example, a {@code Stream} could be collected to a list, and a new
+   * stream created from that list each time.</p>
+   *
+   * @param examiner the examiner to produce results with
+   * @param retainer a function which retains a result for reuse
+   * @param <R> the result type
+   * @return a caching examiner
+   * @since 1.4.0
+   */
+  public static <R> @NotNull CachingExaminer<R> of(final @NotNull AbstractExaminer<R> examiner, final @NotNull Function<? super R, ? extends Supplier<? extends R>> retainer) {
+    return new CachingExaminer<>(examiner, retainer);
+  }
+
+  private CachingExaminer(final @NotNull AbstractExaminer<R> examiner, final @NotNull Function<? super R, ? extends Supplier<? extends R>> retainer) {
+    this.examiner = examiner;
+    this.retainer = retainer;
+  }
+
+  /**
+   * Removes all cached results.
+   *
+   * @since 1.4.0
+   */
+  public void clear() {
+    this.cache.clear();
+    this.expunge();
+  }
+
+  @Override
+  public @NotNull R examine(final @NotNull Examinable examinable) {
+    // what is examined beneath a projection, or with references, depends on more than the examinable, so is not cached
+    if (!(examinable instanceof VersionedExaminable) || Projection.current() != null || References.current() != null) return super.examine(examinable);
+    this.expunge();
+    final long version = ((VersionedExaminable) examinable).examinableVersion();
+    final Cached<R> cached = this.cache.get(new Lookup(examinable));
+    if (cached != null && cached.version == version) {
+      return cached.result.get();
+    }
+    final R examined = super.examine(examinable);
+    // a truncated result would be reused after the examination that truncated it
+    if (CancellationToken.tripped()) return examined;
+    final Supplier<? extends R> result = this.retainer.apply(examined);
+    this.cache.put(new Key(examinable, this.queue), new Cached<>(version, result));
+    return result.get();
+  }
+
+  private void expunge() {
+    Reference<?> reference;
+    while ((reference = this.queue.poll()) != null) {
+      this.cache.remove(reference);
+    }
+  }
+
+  @Override
+  protected <E> @NotNull R array(final E@NotNull[] array, final @NotNull Stream<R> elements) {
+    return this.examiner.array(array, elements);
+  }
+
+  @Override
+  protected <E> @NotNull R collection(final @NotNull Collection<E> collection, final @NotNull Stream<R> elements) {
+    return this.examiner.collection(collection, elements);
+  }
+
+  @Override
+  protected @NotNull R examinable(final @NotNull String name, final @NotNull Stream<Map.Entry<String, R>> properties) {
+    return this.examiner.examinable(name, properties);
+  }
+
+  @Override
+  protected @NotNull ExaminableBuilder<R> examinable(final @NotNull String name) {
+    return this.examiner.examinable(name);
+  }
+
+  @Override
+  protected <K, V> @NotNull R map(final @NotNull Map<K, V> map, final @NotNull Stream<Map.Entry<R, R>> entries) {
+    return this.examiner.map(map, entries);
+  }
+
+  @Override
+  protected @NotNull R nil() {
+    return this.examiner.nil();
+  }
+
+  @Override
+  protected @NotNull R scalar(final @NotNull Object value) {
+    return this.examiner.scalar(value);
+  }
+
+  @Override
+  protected <T> @NotNull R scalar(final @NotNull T value, final TypeAdapter.@NotNull Writer<? super T> writer) {
+    return this.examiner.scalar(value, writer);
+  }
+
+  @Override
+  protected @NotNull R truncated() {
+    return this.examiner.truncated();
+  }
+
+  @Override
+  protected @NotNull R reference(final int id) {
+    return this.examiner.reference(id);
+  }
+
+  @Override
+  void enterExaminable(final @NotNull String name) {
+    this.examiner.enterExaminable(name);
+  }
+
+  @Override
+  void enterProperty(final @NotNull String name) {
+    this.examiner.enterProperty(name);
+  }
+
+  @Override
+  protected <T> @NotNull R stream(final @NotNull Stream<T> stream) {
+    return this.examiner.stream(stream);
+  }
+
+  @Override
+  protected @NotNull R stream(final @NotNull DoubleStream stream) {
+    return this.examiner.stream(stream);
+  }
+
+  @Override
+  protected @NotNull R stream(final @NotNull IntStream stream) {
+    return this.examiner.stream(stream);
+  }
+
+  @Override
+  protected @NotNull R stream(final @NotNull LongStream stream) {
+    return this.examiner.stream(stream);
+  }
+
+  @Override
+  protected @NotNull R array(final int length, final IntFunction<R> value) {
+    return this.examiner.array(length, value);
+  }
+
+  @Override
+  public @NotNull R examine(final boolean value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final boolean@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final byte value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final byte@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final char value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final char@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final double value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final double@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final float value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final float@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final int value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final int@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final long value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final long@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final short value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final short@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final @Nullable String value) {
+    return this.examiner.examine(value);
+  }
+
+  private static final class Cached<R> {
+    final long version;
+    final Supplier<? extends R> result;
+
+    Cached(final long version, final Supplier<? extends R> result) {
+      this.version = version;
+      this.result = result;
+    }
+  }
+
+  // a weakly held examinable, compared by identity
+  private static final class Key extends WeakReference<Object> {
+    private final int hash;
+
+    Key(final Object referent, final ReferenceQueue<Object> queue) {
+      super(referent, queue);
+      this.hash = System.identityHashCode(referent);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) return true;
+      if (!(other instanceof Key)) return false;
+      final Object referent = this.get();
+      return referent != null && referent == ((Key) other).get();
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hash;
+    }
+  }
+
+  // looks up a key without creating a reference
+  private static final class Lookup {
+    private final Object referent;
+
+    Lookup(final Object referent) {
+      this.referent = referent;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      return other instanceof Key && ((Key) other).get() == this.referent;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(this.referent);
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.time.Duration;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A token which stops examination once it has been cancelled, its deadline has passed, or the thread
+ * examining has been interrupted.
+ *
+ * <p>A token applies to examinations by an {@link AbstractExaminer} made on the same thread from within
+ * {@link #run(Supplier)}. It is checked before each element of a collection, array or map, and before each
+ * property of an examinable. Once tripped, the examiner writes a {@linkplain AbstractExaminer#truncated() truncation
+ * marker} in place of what is left and returns what it has examined so far.</p>
+ *
+ * <p>Arrays of primitives are the exception: the token is checked before one, but once started it is examined
+ * in full, as {@link AbstractExaminer#array(int, java.util.function.IntFunction)} is given its length up front.</p>
+ *
+ * @since 1.4.0
+ */
+public final class CancellationToken {
+  private static final ThreadLocal<CancellationToken> CURRENT = new ThreadLocal<>();
+  // the number of threads with a token, so that examinations without one do not need to look
+  private static final AtomicInteger RUNNING = new AtomicInteger();
+  private final boolean timed;
+  private final long deadline;
+  private volatile boolean cancelled;
+
+  /**
+   * Creates a token which is only tripped when cancelled or interrupted.
+   *
+   * @return a token
+   * @since 1.4.0
+   */
+  public static @NotNull CancellationToken create() {
+    return new CancellationToken(false, 0);
+  }
+
+  /**
+   * Creates a token which is also tripped once {@code timeout} has passed.
+   *
+   * @param timeout the time from now until the token trips
+   * @return a token
+   * @since 1.4.0
+   */
+  public static @NotNull CancellationToken withTimeout(final @NotNull Duration timeout) {
+    return new CancellationToken(true, System.nanoTime() + timeout.toNanos());
+  }
+
+  private CancellationToken(final boolean timed, final long deadline) {
+    this.timed = timed;
+    this.deadline = deadline;
+  }
+
+  /**
+   * Cancels examinations using this token.
+   *
+   * <p>This may be called from any thread.</p>
+   *
+   * @since 1.4.0
+   */
+  public void cancel() {
+    this.cancelled = true;
+  }
+
+  /**
+   * Checks if this token has tripped for the current thread.
+   *
+   * <p>The interrupt status of the thread is left as it is.</p>
+   *
+   * @return {@code true} if cancelled, past the deadline, or the current thread has been interrupted
+   * @since 1.4.0
+   */
+  public boolean cancelled() {
+    if (this.cancelled) return true;
+    if (this.timed && System.nanoTime() - this.deadline >= 0) {
+      this.cancelled = true;
+      return true;
+    }
+    return Thread.currentThread().isInterrupted();
+  }
+
+  /**
+   * Runs {@code action}, applying this token to any examination it makes on the current thread.
+   *
+   * @param action the action
+   * @param <T> the result type
+   * @return the result of {@code action}
+   * @since 1.4.0
+   */
+  public <T> T run(final @NotNull Supplier<T> action) {
+    final CancellationToken previous = CURRENT.get();
+    CURRENT.set(this);
+    if (previous == null) RUNNING.incrementAndGet();
+    try {
+      return action.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+        RUNNING.decrementAndGet();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Examines {@code value} with {@code examiner}, applying this token.
+   *
+   * @param examiner the examiner
+   * @param value the value
+   * @param <R> the result type
+   * @return the result, truncated if this token tripped
+   * @since 1.4.0
+   */
+  public <R> @NotNull R examine(final @NotNull Examiner<R> examiner, final @Nullable Object value) {
+    return this.run(() -> examiner.examine(value));
+  }
+
+  static @Nullable CancellationToken current() {
+    if (RUNNING.get() == 0) return null;
+    return CURRENT.get();
+  }
+
+  static boolean tripped() {
+    final CancellationToken token = current();
+    return token != null && token.cancelled();
+  }
+
+  // maps each element, until the token trips - then maps the next element with marker instead, and stops
+  static <T, U> @NotNull Stream<U> truncating(final @NotNull Stream<T> source, final @NotNull CancellationToken token, final @NotNull Function<? super T, ? extends U> mapper, final @NotNull Function<? super T, ? extends U> marker) {
+    return StreamSupport.stream(new Truncating<>(source.spliterator(), token, mapper, marker), false).onClose(source::close);
+  }
+
+  private static final class Truncating<T, U> extends Spliterators.AbstractSpliterator<U> {
+    private final Spliterator<T> source;
+    private final CancellationToken token;
+    private final Function<? super T, ? extends U> mapper;
+    private final Function<? super T, ? extends U> marker;
+    private boolean truncated;
+
+    Truncating(final Spliterator<T> source, final CancellationToken token, final Function<? super T, ? extends U> mapper, final Function<? super T, ? extends U> marker) {
+      super(source.estimateSize(), Spliterator.ORDERED);
+      this.source = source;
+      this.token = token;
+      this.mapper = mapper;
+      this.marker = marker;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super U> action) {
+      if (this.truncated) return false;
+      return this.source.tryAdvance(element -> {
+        if (this.token.cancelled()) {
+          this.truncated = true;
+          action.accept(this.marker.apply(element));
+        } else {
+          action.accept(this.mapper.apply(element));
+        }
+      });
+    }
+  }
+}
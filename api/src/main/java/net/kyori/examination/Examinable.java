@@ -52,6 +52,20 @@ public interface Examinable {
     return Stream.empty();
   }
 
+  /**
+   * Visits each examinable property.
+   *
+   * <p>By default, this visits each property from {@link #examinableProperties()}. Examinables may
+   * override this to push their properties directly, using the typed methods on the visitor - the same
+   * properties, in the same order, as {@link #examinableProperties()} must be visited.</p>
+   *
+   * @param visitor the property visitor
+   * @since 1.4.0
+   */
+  default void examineProperties(final @NotNull PropertyVisitor visitor) {
+    this.examinableProperties().forEachOrdered(visitor::visit);
+  }
+
   /**
    * Examines.
    *
@@ -23,6 +23,11 @@
  */
 package net.kyori.examination;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -32,6 +37,31 @@ import org.jetbrains.annotations.Nullable;
  * @since 1.0.0
  */
 public abstract class ExaminableProperty {
+  private static final byte OBJECT = 0;
+  private static final byte STRING = 1;
+  private static final byte BOOLEAN = 2;
+  private static final byte BOOLEAN_ARRAY = 3;
+  private static final byte BYTE = 4;
+  private static final byte BYTE_ARRAY = 5;
+  private static final byte CHAR = 6;
+  private static final byte CHAR_ARRAY = 7;
+  private static final byte DOUBLE = 8;
+  private static final byte DOUBLE_ARRAY = 9;
+  private static final byte FLOAT = 10;
+  private static final byte FLOAT_ARRAY = 11;
+  private static final byte INT = 12;
+  private static final byte INT_ARRAY = 13;
+  private static final byte LONG = 14;
+  private static final byte LONG_ARRAY = 15;
+  private static final byte SHORT = 16;
+  private static final byte SHORT_ARRAY = 17;
+  private static final byte LAZY_OBJECT = 18;
+  private static final byte LAZY_BOOLEAN = 19;
+  private static final byte LAZY_DOUBLE = 20;
+  private static final byte LAZY_INT = 21;
+  private static final byte LAZY_LONG = 22;
+
+  // only Tagged can extend it - the hierarchy is as closed as sealing would make it, with one final class the JIT already sees
   private ExaminableProperty() {
   }
 
@@ -66,19 +96,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final @Nullable Object value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, OBJECT, value, 0);
   }
 
   /**
@@ -89,19 +108,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final @Nullable String value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, STRING, value, 0);
   }
 
   /**
@@ -112,19 +120,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final boolean value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, BOOLEAN, null, value ? 1 : 0);
   }
 
   /**
@@ -135,19 +132,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final boolean[] value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, BOOLEAN_ARRAY, value, 0);
   }
 
   /**
@@ -158,19 +144,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final byte value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, BYTE, null, value);
   }
 
   /**
@@ -181,19 +156,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final byte[] value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, BYTE_ARRAY, value, 0);
   }
 
   /**
@@ -204,19 +168,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final char value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, CHAR, null, value);
   }
 
   /**
@@ -227,19 +180,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final char[] value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, CHAR_ARRAY, value, 0);
   }
 
   /**
@@ -250,19 +192,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final double value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, DOUBLE, null, Double.doubleToRawLongBits(value));
   }
 
   /**
@@ -273,19 +204,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final double[] value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, DOUBLE_ARRAY, value, 0);
   }
 
   /**
@@ -296,19 +216,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final float value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, FLOAT, null, Float.floatToRawIntBits(value));
   }
 
   /**
@@ -319,19 +228,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final float[] value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, FLOAT_ARRAY, value, 0);
   }
 
   /**
@@ -342,19 +240,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final int value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, INT, null, value);
   }
 
   /**
@@ -365,19 +252,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final int[] value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, INT_ARRAY, value, 0);
   }
 
   /**
@@ -388,19 +264,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final long value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, LONG, null, value);
   }
 
   /**
@@ -411,19 +276,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final long[] value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, LONG_ARRAY, value, 0);
   }
 
   /**
@@ -434,19 +288,8 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final short value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
-
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+    return new Tagged(name, SHORT, null, value);
   }
 
   /**
@@ -457,18 +300,218 @@ public abstract class ExaminableProperty {
    * @return the property
    * @since 1.0.0
    */
-  @SuppressWarnings("DuplicatedCode")
   public static @NotNull ExaminableProperty of(final @NotNull String name, final short[] value) {
-    return new ExaminableProperty() {
-      @Override
-      public @NotNull String name() {
-        return name;
-      }
+    return new Tagged(name, SHORT_ARRAY, value, 0);
+  }
 
-      @Override
-      public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
-        return examiner.examine(value);
-      }
-    };
+  /**
+   * Creates a property whose value is computed when it is first examined.
+   *
+   * <p>The value is computed the first time the property is examined, and not at all if it never is. It is then
+   * kept for as long as the property is, and the supplier released - examining the same property again reuses
+   * the value, even if the supplier would now return something else. Properties are usually created afresh by
+   * {@link Examinable#examinableProperties()} for each examination, making this once per examination; an examinable
+   * which holds on to its properties should create new ones for values which change.</p>
+   *
+   * @param name the name
+   * @param value the value supplier
+   * @return the property
+   * @since 1.4.0
+   */
+  public static @NotNull ExaminableProperty lazy(final @NotNull String name, final @NotNull Supplier<?> value) {
+    return new Tagged(name, LAZY_OBJECT, new Lazy(value), 0);
+  }
+
+  /**
+   * Creates a property whose value is computed when it is first examined.
+   *
+   * <p>The value is computed the first time the property is examined, and not at all if it never is. It is then
+   * kept for as long as the property is, and the supplier released - examining the same property again reuses
+   * the value, even if the supplier would now return something else. Properties are usually created afresh by
+   * {@link Examinable#examinableProperties()} for each examination, making this once per examination; an examinable
+   * which holds on to its properties should create new ones for values which change.</p>
+   *
+   * @param name the name
+   * @param value the value supplier
+   * @return the property
+   * @since 1.4.0
+   */
+  public static @NotNull ExaminableProperty lazy(final @NotNull String name, final @NotNull BooleanSupplier value) {
+    return new Tagged(name, LAZY_BOOLEAN, new Lazy(value), 0);
+  }
+
+  /**
+   * Creates a property whose value is computed when it is first examined.
+   *
+   * <p>The value is computed the first time the property is examined, and not at all if it never is. It is then
+   * kept for as long as the property is, and the supplier released - examining the same property again reuses
+   * the value, even if the supplier would now return something else. Properties are usually created afresh by
+   * {@link Examinable#examinableProperties()} for each examination, making this once per examination; an examinable
+   * which holds on to its properties should create new ones for values which change.</p>
+   *
+   * @param name the name
+   * @param value the value supplier
+   * @return the property
+   * @since 1.4.0
+   */
+  public static @NotNull ExaminableProperty lazy(final @NotNull String name, final @NotNull DoubleSupplier value) {
+    return new Tagged(name, LAZY_DOUBLE, new Lazy(value), 0);
+  }
+
+  /**
+   * Creates a property whose value is computed when it is first examined.
+   *
+   * <p>The value is computed the first time the property is examined, and not at all if it never is. It is then
+   * kept for as long as the property is, and the supplier released - examining the same property again reuses
+   * the value, even if the supplier would now return something else. Properties are usually created afresh by
+   * {@link Examinable#examinableProperties()} for each examination, making this once per examination; an examinable
+   * which holds on to its properties should create new ones for values which change.</p>
+   *
+   * @param name the name
+   * @param value the value supplier
+   * @return the property
+   * @since 1.4.0
+   */
+  public static @NotNull ExaminableProperty lazy(final @NotNull String name, final @NotNull IntSupplier value) {
+    return new Tagged(name, LAZY_INT, new Lazy(value), 0);
+  }
+
+  /**
+   * Creates a property whose value is computed when it is first examined.
+   *
+   * <p>The value is computed the first time the property is examined, and not at all if it never is. It is then
+   * kept for as long as the property is, and the supplier released - examining the same property again reuses
+   * the value, even if the supplier would now return something else. Properties are usually created afresh by
+   * {@link Examinable#examinableProperties()} for each examination, making this once per examination; an examinable
+   * which holds on to its properties should create new ones for values which change.</p>
+   *
+   * @param name the name
+   * @param value the value supplier
+   * @return the property
+   * @since 1.4.0
+   */
+  public static @NotNull ExaminableProperty lazy(final @NotNull String name, final @NotNull LongSupplier value) {
+    return new Tagged(name, LAZY_LONG, new Lazy(value), 0);
+  }
+
+  /*
+   * Every property is one of these, tagged with the type of its value - rather than a class for each type,
+   * each of which would have to be loaded, and which would make calls to examine() megamorphic.
+   */
+  private static final class Tagged extends ExaminableProperty {
+    private final String name;
+    private final byte type;
+    private final @Nullable Object value;
+    // primitive values, as raw bits
+    private final long bits;
+
+    Tagged(final String name, final byte type, final @Nullable Object value, final long bits) {
+      this.name = name;
+      this.type = type;
+      this.value = value;
+      this.bits = bits;
+    }
+
+    @Override
+    public @NotNull String name() {
+      return this.name;
+    }
+
+    @Override
+    public <R> @NotNull R examine(final @NotNull Examiner<? extends R> examiner) {
+      switch (this.type) {
+        case STRING:
+          return examiner.examine((String) this.value);
+        case BOOLEAN:
+          return examiner.examine(this.bits != 0);
+        case BOOLEAN_ARRAY:
+          return examiner.examine((boolean[]) this.value);
+        case BYTE:
+          return examiner.examine((byte) this.bits);
+        case BYTE_ARRAY:
+          return examiner.examine((byte[]) this.value);
+        case CHAR:
+          return examiner.examine((char) this.bits);
+        case CHAR_ARRAY:
+          return examiner.examine((char[]) this.value);
+        case DOUBLE:
+          return examiner.examine(Double.longBitsToDouble(this.bits));
+        case DOUBLE_ARRAY:
+          return examiner.examine((double[]) this.value);
+        case FLOAT:
+          return examiner.examine(Float.intBitsToFloat((int) this.bits));
+        case FLOAT_ARRAY:
+          return examiner.examine((float[]) this.value);
+        case INT:
+          return examiner.examine((int) this.bits);
+        case INT_ARRAY:
+          return examiner.examine((int[]) this.value);
+        case LONG:
+          return examiner.examine(this.bits);
+        case LONG_ARRAY:
+          return examiner.examine((long[]) this.value);
+        case SHORT:
+          return examiner.examine((short) this.bits);
+        case SHORT_ARRAY:
+          return examiner.examine((short[]) this.value);
+        case LAZY_OBJECT:
+          return examiner.examine(this.lazy().value);
+        case LAZY_BOOLEAN:
+          return examiner.examine(this.lazy().bits != 0);
+        case LAZY_DOUBLE:
+          return examiner.examine(Double.longBitsToDouble(this.lazy().bits));
+        case LAZY_INT:
+          return examiner.examine((int) this.lazy().bits);
+        case LAZY_LONG:
+          return examiner.examine(this.lazy().bits);
+        default:
+          return examiner.examine(this.value);
+      }
+    }
+
+    private Lazy lazy() {
+      return ((Lazy) this.value).evaluate(this.type);
+    }
+  }
+
+  // the value of a lazy property, kept for the life of the property - the supplier is let go of once it has been called
+  private static final class Lazy {
+    // cleared once the value is computed - the value is only read after seeing it cleared, which publishes it
+    private volatile @Nullable Object supplier;
+    @Nullable Object value;
+    long bits;
+
+    Lazy(final Object supplier) {
+      this.supplier = supplier;
+    }
+
+    Lazy evaluate(final byte type) {
+      if (this.supplier != null) {
+        synchronized (this) {
+          final Object supplier = this.supplier;
+          if (supplier != null) {
+            switch (type) {
+              case LAZY_BOOLEAN:
+                this.bits = ((BooleanSupplier) supplier).getAsBoolean() ? 1 : 0;
+                break;
+              case LAZY_DOUBLE:
+                this.bits = Double.doubleToRawLongBits(((DoubleSupplier) supplier).getAsDouble());
+                break;
+              case LAZY_INT:
+                this.bits = ((IntSupplier) supplier).getAsInt();
+                break;
+              case LAZY_LONG:
+                this.bits = ((LongSupplier) supplier).getAsLong();
+                break;
+              default:
+                this.value = ((Supplier<?>) supplier).get();
+                break;
+            }
+            this.supplier = null;
+          }
+        }
+      }
+      return this;
+    }
   }
 }
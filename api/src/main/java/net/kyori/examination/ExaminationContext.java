@@ -0,0 +1,89 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The {@link CancellationToken} and {@link Projection} applying on a thread, captured so that examinations
+ * made on other threads on its behalf apply them too.
+ *
+ * <p>{@link References} are not carried over: the ids they give depend on the order examinables are reached
+ * in, which examinations on several threads do not have. Use {@link #references()} to find out whether they
+ * applied when the context was captured.</p>
+ *
+ * @since 1.4.0
+ */
+public final class ExaminationContext {
+  private static final ExaminationContext NONE = new ExaminationContext(null, null, false);
+  private final @Nullable CancellationToken token;
+  private final Projection.@Nullable State projection;
+  private final boolean references;
+
+  /**
+   * Captures the context applying on the current thread.
+   *
+   * @return the context
+   * @since 1.4.0
+   */
+  public static @NotNull ExaminationContext capture() {
+    final CancellationToken token = CancellationToken.current();
+    final Projection.State projection = Projection.current();
+    final boolean references = References.current() != null;
+    if (token == null && projection == null && !references) return NONE;
+    return new ExaminationContext(token, projection, references);
+  }
+
+  private ExaminationContext(final @Nullable CancellationToken token, final Projection.@Nullable State projection, final boolean references) {
+    this.token = token;
+    this.projection = projection;
+    this.references = references;
+  }
+
+  /**
+   * Gets whether {@link References} applied when this context was captured.
+   *
+   * @return whether references applied
+   * @since 1.4.0
+   */
+  public boolean references() {
+    return this.references;
+  }
+
+  /**
+   * Runs {@code action}, applying the cancellation token and projection of this context to any examination it
+   * makes on the current thread.
+   *
+   * @param action the action
+   * @param <T> the result type
+   * @return the result of {@code action}
+   * @since 1.4.0
+   */
+  public <T> T run(final @NotNull Supplier<T> action) {
+    final Supplier<T> projected = this.projection == null ? action : () -> Projection.run(this.projection, action);
+    return this.token == null ? projected.get() : this.token.run(projected);
+  }
+}
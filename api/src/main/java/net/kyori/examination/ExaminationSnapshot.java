@@ -0,0 +1,406 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable capture of an examination.
+ *
+ * <p>Snapshots are created by {@link SnapshotExaminer}, and can be examined any number of times,
+ * by any examiner, without touching the examined objects again.</p>
+ *
+ * <p>Rather than one object per node, the captured tree is stored in flat arenas: each node takes
+ * three {@code int}s (its kind and two operands), primitive values and primitive arrays are packed
+ * into a {@code long[]}, and strings are deduplicated into a side table.</p>
+ *
+ * @since 1.4.0
+ */
+public final class ExaminationSnapshot {
+  static final int NIL = 0;
+  static final int BOOLEAN = 1;
+  static final int BYTE = 2;
+  static final int CHAR = 3;
+  static final int DOUBLE = 4;
+  static final int FLOAT = 5;
+  static final int INT = 6;
+  static final int LONG = 7;
+  static final int SHORT = 8;
+  static final int STRING = 9;
+  static final int SCALAR = 10;
+  static final int BOOLEAN_ARRAY = 11;
+  static final int BYTE_ARRAY = 12;
+  static final int CHAR_ARRAY = 13;
+  static final int DOUBLE_ARRAY = 14;
+  static final int FLOAT_ARRAY = 15;
+  static final int INT_ARRAY = 16;
+  static final int LONG_ARRAY = 17;
+  static final int SHORT_ARRAY = 18;
+  static final int ARRAY = 19;
+  static final int COLLECTION = 20;
+  static final int MAP = 21;
+  static final int EXAMINABLE = 22;
+  static final int PROPERTY = 23;
+
+  /*
+   * Node layout, three ints per node: kind, a, b
+   *
+   * - boolean, byte, char, float, int, short: a = the value (float as its raw int bits)
+   * - double, long: a = index into data
+   * - string, scalar: a = index into strings
+   * - primitive arrays: a = length, b = index into data (elements are packed)
+   * - array, collection, map: a = element count (entry count for maps), b = end of subtree
+   * - examinable: a = index of the name into strings, b = end of subtree
+   * - property: a = index of the name into strings
+   *
+   * Containers are followed by their children in order - map entries are a key node then a value
+   * node, and examinable properties are the property node naming them then a value node.
+   */
+  static final int STRIDE = 3;
+
+  private final int[] nodes;
+  private final long[] data;
+  private final String[] strings;
+
+  ExaminationSnapshot(final int[] nodes, final long[] data, final String[] strings) {
+    this.nodes = nodes;
+    this.data = data;
+    this.strings = strings;
+  }
+
+  /**
+   * Examines this snapshot.
+   *
+   * @param examiner the examiner
+   * @param <R> the result type
+   * @return the examination result
+   * @since 1.4.0
+   */
+  public <R> @NotNull R examine(final @NotNull Examiner<R> examiner) {
+    return this.examine(examiner, 0);
+  }
+
+  /**
+   * Gets the number of nodes in this snapshot.
+   *
+   * @return the number of nodes
+   * @since 1.4.0
+   */
+  public int nodes() {
+    return this.nodes.length / STRIDE;
+  }
+
+  private <R> @NotNull R examine(final @NotNull Examiner<R> examiner, final int node) {
+    final int kind = this.kind(node);
+    final int a = this.a(node);
+    switch (kind) {
+      case BOOLEAN: return examiner.examine(a != 0);
+      case BYTE: return examiner.examine((byte) a);
+      case CHAR: return examiner.examine((char) a);
+      case DOUBLE: return examiner.examine(Double.longBitsToDouble(this.data[a]));
+      case FLOAT: return examiner.examine(Float.intBitsToFloat(a));
+      case INT: return examiner.examine(a);
+      case LONG: return examiner.examine(this.data[a]);
+      case SHORT: return examiner.examine((short) a);
+      case STRING: return examiner.examine(this.strings[a]);
+      case EXAMINABLE: return examiner.examine(this.strings[a], this.properties(node));
+      default: return examiner.examine(this.value(node));
+    }
+  }
+
+  private @Nullable Object value(final int node) {
+    final int kind = this.kind(node);
+    final int a = this.a(node);
+    final int b = this.b(node);
+    switch (kind) {
+      case NIL: return null;
+      case BOOLEAN: return a != 0;
+      case BYTE: return (byte) a;
+      case CHAR: return (char) a;
+      case DOUBLE: return Double.longBitsToDouble(this.data[a]);
+      case FLOAT: return Float.intBitsToFloat(a);
+      case INT: return a;
+      case LONG: return this.data[a];
+      case SHORT: return (short) a;
+      case STRING: return this.strings[a];
+      case SCALAR: return new Scalar(this.strings[a]);
+      case BOOLEAN_ARRAY: {
+        final boolean[] values = new boolean[a];
+        for (int i = 0; i < a; i++) {
+          values[i] = this.element(b, i, 1) != 0;
+        }
+        return values;
+      }
+      case BYTE_ARRAY: {
+        final byte[] values = new byte[a];
+        for (int i = 0; i < a; i++) {
+          values[i] = (byte) this.element(b, i, Byte.SIZE);
+        }
+        return values;
+      }
+      case CHAR_ARRAY: {
+        final char[] values = new char[a];
+        for (int i = 0; i < a; i++) {
+          values[i] = (char) this.element(b, i, Character.SIZE);
+        }
+        return values;
+      }
+      case DOUBLE_ARRAY: {
+        final double[] values = new double[a];
+        for (int i = 0; i < a; i++) {
+          values[i] = Double.longBitsToDouble(this.data[b + i]);
+        }
+        return values;
+      }
+      case FLOAT_ARRAY: {
+        final float[] values = new float[a];
+        for (int i = 0; i < a; i++) {
+          values[i] = Float.intBitsToFloat((int) this.element(b, i, Float.SIZE));
+        }
+        return values;
+      }
+      case INT_ARRAY: {
+        final int[] values = new int[a];
+        for (int i = 0; i < a; i++) {
+          values[i] = (int) this.element(b, i, Integer.SIZE);
+        }
+        return values;
+      }
+      case LONG_ARRAY: return Arrays.copyOfRange(this.data, b, b + a);
+      case SHORT_ARRAY: {
+        final short[] values = new short[a];
+        for (int i = 0; i < a; i++) {
+          values[i] = (short) this.element(b, i, Short.SIZE);
+        }
+        return values;
+      }
+      case ARRAY: return this.children(node).toArray();
+      case COLLECTION: return this.children(node);
+      case MAP: return new MapView(node);
+      case EXAMINABLE: return new ExaminableView(node);
+      default: throw new IllegalStateException("Unknown node kind " + kind + " at " + node);
+    }
+  }
+
+  private @NotNull Stream<ExaminableProperty> properties(final int node) {
+    final Iterator<ExaminableProperty> iterator = new Iterator<ExaminableProperty>() {
+      private final int end = ExaminationSnapshot.this.b(node);
+      private int next = node + 1;
+
+      @Override
+      public boolean hasNext() {
+        return this.next < this.end;
+      }
+
+      @Override
+      public ExaminableProperty next() {
+        if (!this.hasNext()) throw new NoSuchElementException();
+        final int name = this.next;
+        final int value = name + 1;
+        this.next = ExaminationSnapshot.this.skip(value);
+        return ExaminationSnapshot.this.property(ExaminationSnapshot.this.strings[ExaminationSnapshot.this.a(name)], value);
+      }
+    };
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  private @NotNull ExaminableProperty property(final @NotNull String name, final int value) {
+    final int a = this.a(value);
+    switch (this.kind(value)) {
+      case BOOLEAN: return ExaminableProperty.of(name, a != 0);
+      case BYTE: return ExaminableProperty.of(name, (byte) a);
+      case CHAR: return ExaminableProperty.of(name, (char) a);
+      case DOUBLE: return ExaminableProperty.of(name, Double.longBitsToDouble(this.data[a]));
+      case FLOAT: return ExaminableProperty.of(name, Float.intBitsToFloat(a));
+      case INT: return ExaminableProperty.of(name, a);
+      case LONG: return ExaminableProperty.of(name, this.data[a]);
+      case SHORT: return ExaminableProperty.of(name, (short) a);
+      case STRING: return ExaminableProperty.of(name, this.strings[a]);
+      default: return ExaminableProperty.of(name, this.value(value));
+    }
+  }
+
+  private @NotNull Children children(final int node) {
+    final int[] children = new int[this.a(node)];
+    int child = node + 1;
+    for (int i = 0; i < children.length; i++) {
+      children[i] = child;
+      child = this.skip(child);
+    }
+    return new Children(children);
+  }
+
+  // the index of the node following the subtree rooted at node
+  private int skip(final int node) {
+    switch (this.kind(node)) {
+      case ARRAY:
+      case COLLECTION:
+      case MAP:
+      case EXAMINABLE:
+        return this.b(node);
+      default:
+        return node + 1;
+    }
+  }
+
+  private long element(final int offset, final int index, final int bits) {
+    final int perWord = Long.SIZE / bits;
+    final int shift = (index % perWord) * bits;
+    final long mask = bits == Long.SIZE ? -1L : (1L << bits) - 1;
+    return (this.data[offset + index / perWord] >>> shift) & mask;
+  }
+
+  private int kind(final int node) {
+    return this.nodes[node * STRIDE];
+  }
+
+  private int a(final int node) {
+    return this.nodes[node * STRIDE + 1];
+  }
+
+  private int b(final int node) {
+    return this.nodes[node * STRIDE + 2];
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) return true;
+    if (!(other instanceof ExaminationSnapshot)) return false;
+    final ExaminationSnapshot that = (ExaminationSnapshot) other;
+    return Arrays.equals(this.nodes, that.nodes)
+      && Arrays.equals(this.data, that.data)
+      && Arrays.equals(this.strings, that.strings);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Arrays.hashCode(this.nodes);
+    result = (31 * result) + Arrays.hashCode(this.data);
+    result = (31 * result) + Arrays.hashCode(this.strings);
+    return result;
+  }
+
+  // a value that was examined as a scalar - examiners render scalars with String.valueOf
+  private static final class Scalar {
+    private final String value;
+
+    Scalar(final String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String toString() {
+      return this.value;
+    }
+  }
+
+  private final class Children extends AbstractList<Object> {
+    private final int[] children;
+
+    Children(final int[] children) {
+      this.children = children;
+    }
+
+    @Override
+    public Object get(final int index) {
+      return ExaminationSnapshot.this.value(this.children[index]);
+    }
+
+    @Override
+    public int size() {
+      return this.children.length;
+    }
+  }
+
+  private final class ExaminableView implements Examinable {
+    private final int node;
+
+    ExaminableView(final int node) {
+      this.node = node;
+    }
+
+    @Override
+    public @NotNull String examinableName() {
+      return ExaminationSnapshot.this.strings[ExaminationSnapshot.this.a(this.node)];
+    }
+
+    @Override
+    public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return ExaminationSnapshot.this.properties(this.node);
+    }
+  }
+
+  private final class MapView extends AbstractMap<Object, Object> {
+    private final int node;
+
+    MapView(final int node) {
+      this.node = node;
+    }
+
+    @Override
+    public @NotNull Set<Entry<Object, Object>> entrySet() {
+      return new AbstractSet<Entry<Object, Object>>() {
+        @Override
+        public @NotNull Iterator<Entry<Object, Object>> iterator() {
+          return new Iterator<Entry<Object, Object>>() {
+            private final int end = ExaminationSnapshot.this.b(MapView.this.node);
+            private int next = MapView.this.node + 1;
+
+            @Override
+            public boolean hasNext() {
+              return this.next < this.end;
+            }
+
+            @Override
+            public Entry<Object, Object> next() {
+              if (!this.hasNext()) throw new NoSuchElementException();
+              final int key = this.next;
+              final int value = ExaminationSnapshot.this.skip(key);
+              this.next = ExaminationSnapshot.this.skip(value);
+              return new SimpleImmutableEntry<>(ExaminationSnapshot.this.value(key), ExaminationSnapshot.this.value(value));
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return ExaminationSnapshot.this.a(MapView.this.node);
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An estimate of the memory used by an examined value, from a {@link FootprintExaminer}.
+ *
+ * <p>Objects reached more than once are only counted the first time, so the retained size of a value
+ * includes everything it reaches which was not reached before it.</p>
+ *
+ * @since 1.4.0
+ */
+public final class Footprint {
+  private final long shallow;
+  private final long retained;
+  private final long objects;
+  private final Map<String, Group> examinables;
+
+  Footprint(final long shallow, final long retained, final long objects, final Map<String, Group> examinables) {
+    this.shallow = shallow;
+    this.retained = retained;
+    this.objects = objects;
+    this.examinables = examinables;
+  }
+
+  /**
+   * Gets the estimated size of the examined value itself, in bytes.
+   *
+   * @return the shallow size
+   * @since 1.4.0
+   */
+  public long shallow() {
+    return this.shallow;
+  }
+
+  /**
+   * Gets the estimated size of the examined value and everything reached from it, in bytes.
+   *
+   * @return the retained size
+   * @since 1.4.0
+   */
+  public long retained() {
+    return this.retained;
+  }
+
+  /**
+   * Gets the number of objects reached.
+   *
+   * @return the number of objects
+   * @since 1.4.0
+   */
+  public long objects() {
+    return this.objects;
+  }
+
+  /**
+   * Gets the totals for each examinable name, in the order each name was first reached.
+   *
+   * @return the totals for each examinable name
+   * @since 1.4.0
+   */
+  public @NotNull Map<String, Group> examinables() {
+    return this.examinables;
+  }
+
+  @Override
+  public String toString() {
+    return "Footprint{shallow=" + this.shallow + ", retained=" + this.retained + ", objects=" + this.objects + "}";
+  }
+
+  /**
+   * The totals for the examinables with one name.
+   *
+   * @since 1.4.0
+   */
+  public static final class Group {
+    long instances;
+    long shallow;
+    long retained;
+
+    Group() {
+    }
+
+    /**
+     * Gets the number of examinables reached.
+     *
+     * @return the number of examinables
+     * @since 1.4.0
+     */
+    public long instances() {
+      return this.instances;
+    }
+
+    /**
+     * Gets the total estimated size of the examinables themselves, in bytes.
+     *
+     * @return the total shallow size
+     * @since 1.4.0
+     */
+    public long shallow() {
+      return this.shallow;
+    }
+
+    /**
+     * Gets the total estimated size of the examinables and everything reached from them, in bytes.
+     *
+     * <p>Examinables within another with the same name are only counted as part of the outermost.</p>
+     *
+     * @return the total retained size
+     * @since 1.4.0
+     */
+    public long retained() {
+      return this.retained;
+    }
+
+    @Override
+    public String toString() {
+      return "Group{instances=" + this.instances + ", shallow=" + this.shallow + ", retained=" + this.retained + "}";
+    }
+  }
+}
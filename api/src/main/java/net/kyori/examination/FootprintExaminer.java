@@ -0,0 +1,584 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.nio.Buffer;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An examiner which estimates the memory used by a value, and everything reached from it.
+ *
+ * <p>Sizes are estimated from the shape of what is examined - the length of strings and arrays, the size of
+ * collections and maps, and the number of properties of examinables - using a {@link Layout} of objects in
+ * memory. Objects are told apart by identity, so an object reached more than once is only counted once.
+ * Values which are neither of these, such as streams, are counted as an object with no fields.</p>
+ *
+ * <p>Nothing is copied or rendered, so this is cheap enough to use on live data.</p>
+ *
+ * @since 1.4.0
+ */
+public final class FootprintExaminer implements Examiner<Footprint> {
+  private final Layout layout;
+
+  /**
+   * Creates a footprint examiner, using the layout of the current JVM.
+   *
+   * @return a footprint examiner
+   * @since 1.4.0
+   */
+  public static @NotNull FootprintExaminer of() {
+    return new FootprintExaminer(Layout.current());
+  }
+
+  /**
+   * Creates a footprint examiner.
+   *
+   * @param layout the layout of objects in memory
+   * @return a footprint examiner
+   * @since 1.4.0
+   */
+  public static @NotNull FootprintExaminer of(final @NotNull Layout layout) {
+    return new FootprintExaminer(layout);
+  }
+
+  private FootprintExaminer(final Layout layout) {
+    this.layout = layout;
+  }
+
+  @Override
+  public @NotNull Footprint examine(final @NotNull Examinable examinable) {
+    return new Walk(this.layout).examine(examinable).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final @NotNull String name, final @NotNull Stream<? extends ExaminableProperty> properties) {
+    return new Walk(this.layout).examine(name, properties).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final @Nullable Object value) {
+    return new Walk(this.layout).examine(value).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final @Nullable String value) {
+    return new Walk(this.layout).examine(value).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final boolean value) {
+    return new Walk(this.layout).examine(value).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final boolean@Nullable[] values) {
+    return new Walk(this.layout).examine(values).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final byte value) {
+    return new Walk(this.layout).examine(value).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final byte@Nullable[] values) {
+    return new Walk(this.layout).examine(values).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final char value) {
+    return new Walk(this.layout).examine(value).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final char@Nullable[] values) {
+    return new Walk(this.layout).examine(values).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final double value) {
+    return new Walk(this.layout).examine(value).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final double@Nullable[] values) {
+    return new Walk(this.layout).examine(values).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final float value) {
+    return new Walk(this.layout).examine(value).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final float@Nullable[] values) {
+    return new Walk(this.layout).examine(values).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final int value) {
+    return new Walk(this.layout).examine(value).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final int@Nullable[] values) {
+    return new Walk(this.layout).examine(values).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final long value) {
+    return new Walk(this.layout).examine(value).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final long@Nullable[] values) {
+    return new Walk(this.layout).examine(values).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final short value) {
+    return new Walk(this.layout).examine(value).footprint();
+  }
+
+  @Override
+  public @NotNull Footprint examine(final short@Nullable[] values) {
+    return new Walk(this.layout).examine(values).footprint();
+  }
+
+  /**
+   * The layout of objects in memory.
+   *
+   * @since 1.4.0
+   */
+  public static final class Layout {
+    private static final long COMPRESSED_LIMIT = 32L * 1024 * 1024 * 1024;
+    // strings hold a byte per character from Java 9, for all but those which need more than Latin-1
+    private static final boolean COMPACT_STRINGS = !System.getProperty("java.specification.version").startsWith("1.");
+    final int header;
+    final int reference;
+    final int arrayHeader;
+    final int alignment;
+
+    /**
+     * Gets a layout for a 64-bit JVM with compressed references.
+     *
+     * @return a layout
+     * @since 1.4.0
+     */
+    public static @NotNull Layout compressed() {
+      return new Layout(12, 4, 16, 8);
+    }
+
+    /**
+     * Gets a layout for a 64-bit JVM without compressed references.
+     *
+     * @return a layout
+     * @since 1.4.0
+     */
+    public static @NotNull Layout uncompressed() {
+      return new Layout(16, 8, 24, 8);
+    }
+
+    /**
+     * Gets a layout which is likely to be that of the current JVM.
+     *
+     * <p>References are assumed to be compressed on a 64-bit JVM when the heap is small enough for them to be.</p>
+     *
+     * @return a layout
+     * @since 1.4.0
+     */
+    public static @NotNull Layout current() {
+      if ("32".equals(System.getProperty("sun.arch.data.model"))) return new Layout(8, 4, 12, 8);
+      return Runtime.getRuntime().maxMemory() < COMPRESSED_LIMIT ? compressed() : uncompressed();
+    }
+
+    /**
+     * Creates a layout.
+     *
+     * @param header the size of an object header, in bytes
+     * @param reference the size of a reference, in bytes
+     * @param arrayHeader the size of an array header, including its length, in bytes
+     * @param alignment the alignment of objects, in bytes
+     * @return a layout
+     * @throws IllegalArgumentException if a size is negative, or the alignment is not positive
+     * @since 1.4.0
+     */
+    public static @NotNull Layout of(final int header, final int reference, final int arrayHeader, final int alignment) {
+      if (header < 0 || reference < 0 || arrayHeader < 0) throw new IllegalArgumentException("Sizes must not be negative");
+      if (alignment <= 0) throw new IllegalArgumentException("Alignment must be positive, was " + alignment);
+      return new Layout(header, reference, arrayHeader, alignment);
+    }
+
+    private Layout(final int header, final int reference, final int arrayHeader, final int alignment) {
+      this.header = header;
+      this.reference = reference;
+      this.arrayHeader = arrayHeader;
+      this.alignment = alignment;
+    }
+
+    long object(final long fields) {
+      return this.align(this.header + fields);
+    }
+
+    long array(final long length, final int width) {
+      return this.align(this.arrayHeader + length * width);
+    }
+
+    long string(final String string) {
+      // the value array, and the hash - with the coder, from Java 9
+      return this.object(this.reference + 8) + this.array(string.length(), COMPACT_STRINGS ? 1 : 2);
+    }
+
+    long list(final int size) {
+      // the element array, the size and the modification count
+      return this.object(this.reference + 8) + this.array(size, this.reference);
+    }
+
+    long map(final int size) {
+      // the table, with a node for each entry holding its hash, key, value and next node
+      int capacity = 1;
+      while (capacity * 3 < size * 4) capacity <<= 1;
+      return this.object(3 * this.reference + 16) + this.array(capacity, this.reference) + size * this.object(3 * this.reference + 4);
+    }
+
+    private long align(final long size) {
+      return (size + this.alignment - 1) / this.alignment * this.alignment;
+    }
+
+    @Override
+    public String toString() {
+      return "Layout{header=" + this.header + ", reference=" + this.reference + ", arrayHeader=" + this.arrayHeader + ", alignment=" + this.alignment + "}";
+    }
+  }
+
+  /*
+   * A single examination, adding up the size of each object as it is reached - children are examined,
+   * and counted, within the examination of their parent.
+   */
+  private static final class Walk extends AbstractExaminer<Walk> {
+    private final Layout layout;
+    private final Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<String, Footprint.Group> examinables = new LinkedHashMap<>();
+    // the examinables being examined, innermost first
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private long shallow;
+    private long retained;
+    private long objects;
+    private int depth;
+    // the name of the examinable about to be entered, without the id given to it by References
+    private @Nullable String entering;
+
+    Walk(final Layout layout) {
+      this.layout = layout;
+    }
+
+    Footprint footprint() {
+      return new Footprint(this.shallow, this.retained, this.objects, Collections.unmodifiableMap(this.examinables));
+    }
+
+    private boolean first(final Object value) {
+      return this.seen.add(value);
+    }
+
+    private void object(final long size) {
+      if (this.depth == 0) this.shallow = size;
+      this.retained += size;
+      this.objects++;
+    }
+
+    @Override
+    public @NotNull Walk examine(final @Nullable Object value) {
+      if (value instanceof Boolean || value instanceof Character || value instanceof Byte || value instanceof Short
+        || value instanceof Integer || value instanceof Float || value instanceof Long || value instanceof Double) {
+        if (this.first(value)) this.object(this.layout.object(value instanceof Long || value instanceof Double ? 8 : 4));
+        return this;
+      } else if ((value instanceof Collection<?> || value instanceof Map<?, ?> || value instanceof Object[]) && !this.first(value)) {
+        return this;
+      } else if (value instanceof Buffer) {
+        // what a buffer holds is not reached by examining it, only a window of it
+        return this.scalar(value);
+      }
+      return super.examine(value);
+    }
+
+    @Override
+    public @NotNull Walk examine(final @NotNull Examinable examinable) {
+      if (!this.first(examinable)) return this;
+      this.entering = examinable.examinableName();
+      try {
+        return super.examine(examinable);
+      } finally {
+        this.entering = null;
+      }
+    }
+
+    @Override
+    void enterExaminable(final @NotNull String name) {
+      final String key = this.entering != null ? this.entering : name;
+      this.entering = null;
+      Footprint.Group group = this.examinables.get(key);
+      if (group == null) {
+        group = new Footprint.Group();
+        this.examinables.put(key, group);
+      }
+      this.depth++;
+      this.frames.push(new Frame(group, this.retained));
+    }
+
+    @Override
+    void enterProperty(final @NotNull String name) {
+      this.frames.element().properties++;
+    }
+
+    @Override
+    protected @NotNull Walk examinable(final @NotNull String name, final @NotNull Stream<Map.Entry<String, Walk>> properties) {
+      // each property is counted as it is examined
+      drain(properties);
+      final Frame frame = this.frames.pop();
+      this.depth--;
+      final long shallow = this.layout.object((long) frame.properties * this.layout.reference);
+      this.object(shallow);
+      frame.group.instances++;
+      frame.group.shallow += shallow;
+      if (!this.within(frame.group)) frame.group.retained += this.retained - frame.before;
+      return this;
+    }
+
+    // whether an examinable being examined is in the group
+    private boolean within(final Footprint.Group group) {
+      for (final Frame frame : this.frames) {
+        if (frame.group == group) return true;
+      }
+      return false;
+    }
+
+    @Override
+    protected <E> @NotNull Walk array(final E@NotNull[] array, final @NotNull Stream<Walk> elements) {
+      return this.container(this.layout.array(array.length, this.layout.reference), elements);
+    }
+
+    @Override
+    protected <E> @NotNull Walk collection(final @NotNull Collection<E> collection, final @NotNull Stream<Walk> elements) {
+      final int size = collection.size();
+      // a set is a map from each element
+      return this.container(collection instanceof Set<?> ? this.layout.object(this.layout.reference) + this.layout.map(size) : this.layout.list(size), elements);
+    }
+
+    @Override
+    protected <K, V> @NotNull Walk map(final @NotNull Map<K, V> map, final @NotNull Stream<Map.Entry<Walk, Walk>> entries) {
+      return this.container(this.layout.map(map.size()), entries);
+    }
+
+    private Walk container(final long shallow, final Stream<?> children) {
+      this.depth++;
+      drain(children);
+      this.depth--;
+      this.object(shallow);
+      return this;
+    }
+
+    // examines each child - what is examined is counted as it is reached, so the results themselves are not needed
+    private static void drain(final Stream<?> children) {
+      final Iterator<?> it = children.iterator();
+      while (it.hasNext()) {
+        it.next();
+      }
+    }
+
+    @Override
+    protected @NotNull Walk nil() {
+      return this;
+    }
+
+    @Override
+    protected @NotNull Walk scalar(final @NotNull Object value) {
+      if (this.first(value)) this.object(this.layout.object(0));
+      return this;
+    }
+
+    @Override
+    protected <T> @NotNull Walk scalar(final @NotNull T value, final TypeAdapter.@NotNull Writer<? super T> writer) {
+      // there is no need to write it out
+      return this.scalar(value);
+    }
+
+    @Override
+    protected <T> @NotNull Walk stream(final @NotNull Stream<T> stream) {
+      return this.scalar(stream);
+    }
+
+    @Override
+    protected @NotNull Walk stream(final @NotNull DoubleStream stream) {
+      return this.scalar(stream);
+    }
+
+    @Override
+    protected @NotNull Walk stream(final @NotNull IntStream stream) {
+      return this.scalar(stream);
+    }
+
+    @Override
+    protected @NotNull Walk stream(final @NotNull LongStream stream) {
+      return this.scalar(stream);
+    }
+
+    @Override
+    protected @NotNull Walk array(final int length, final @NotNull IntFunction<Walk> value) {
+      // the array itself is counted by the examine method for its type - its elements are held in it, so examining them adds nothing
+      for (int i = 0; i < length; i++) {
+        value.apply(i);
+      }
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final @Nullable String value) {
+      if (value != null && this.first(value)) this.object(this.layout.string(value));
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final boolean value) {
+      // held in a field or element, which is already counted
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final boolean@Nullable[] values) {
+      if (values != null && this.first(values)) this.object(this.layout.array(values.length, 1));
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final byte value) {
+      // held in a field or element, which is already counted
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final byte@Nullable[] values) {
+      if (values != null && this.first(values)) this.object(this.layout.array(values.length, 1));
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final char value) {
+      // held in a field or element, which is already counted
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final char@Nullable[] values) {
+      if (values != null && this.first(values)) this.object(this.layout.array(values.length, 2));
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final double value) {
+      // held in a field or element, which is already counted
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final double@Nullable[] values) {
+      if (values != null && this.first(values)) this.object(this.layout.array(values.length, 8));
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final float value) {
+      // held in a field or element, which is already counted
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final float@Nullable[] values) {
+      if (values != null && this.first(values)) this.object(this.layout.array(values.length, 4));
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final int value) {
+      // held in a field or element, which is already counted
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final int@Nullable[] values) {
+      if (values != null && this.first(values)) this.object(this.layout.array(values.length, 4));
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final long value) {
+      // held in a field or element, which is already counted
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final long@Nullable[] values) {
+      if (values != null && this.first(values)) this.object(this.layout.array(values.length, 8));
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final short value) {
+      // held in a field or element, which is already counted
+      return this;
+    }
+
+    @Override
+    public @NotNull Walk examine(final short@Nullable[] values) {
+      if (values != null && this.first(values)) this.object(this.layout.array(values.length, 2));
+      return this;
+    }
+
+    private static final class Frame {
+      final Footprint.Group group;
+      // the retained size before the examinable was entered
+      final long before;
+      int properties;
+
+      Frame(final Footprint.Group group, final long before) {
+        this.group = group;
+        this.before = before;
+      }
+    }
+  }
+}
@@ -0,0 +1,684 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.BaseStream;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An examiner which walks the examined graph with an explicit stack, rather than by recursion.
+ *
+ * <p>Output is produced by the hooks of the wrapped examiner, which are given the results of each
+ * container's children once they have all been examined - so graphs of any depth can be examined,
+ * without running out of stack.</p>
+ *
+ * <p>Examinables, collections, maps and arrays are walked, as are values with a
+ * {@link TypeAdapter#structured(java.util.function.Function) structured} type adapter. Anything else is examined by the wrapped
+ * examiner directly - streams included, as its hooks examine their elements themselves. Any overrides
+ * of the wrapped examiner's {@code examine} methods for containers are not used.</p>
+ *
+ * <p>A {@link Projection}, {@link CancellationToken} or {@link References} in effect is applied to the walk
+ * as it would be by the wrapped examiner.</p>
+ *
+ * @param <R> the result type
+ * @since 1.4.0
+ */
+public final class IterativeExaminer<R> implements Examiner<R> {
+  private static final ThreadLocal<Stack> STACKS = ThreadLocal.withInitial(Stack::new);
+  private static final int EXAMINABLE = 0;
+  private static final int COLLECTION = 1;
+  private static final int MAP = 2;
+  private static final int ARRAY = 3;
+  private final AbstractExaminer<R> examiner;
+
+  /**
+   * Creates an iterative examiner.
+   *
+   * @param examiner the examiner to produce results with
+   * @param <R> the result type
+   * @return an iterative examiner
+   * @since 1.4.0
+   */
+  public static <R> @NotNull IterativeExaminer<R> of(final @NotNull AbstractExaminer<R> examiner) {
+    return new IterativeExaminer<>(examiner);
+  }
+
+  private IterativeExaminer(final AbstractExaminer<R> examiner) {
+    this.examiner = examiner;
+  }
+
+  @Override
+  public @NotNull R examine(final @NotNull Examinable examinable) {
+    return this.walk(examinable);
+  }
+
+  @Override
+  public @NotNull R examine(final @NotNull String name, final @NotNull Stream<? extends ExaminableProperty> properties) {
+    return this.walk(ValueExaminer.INSTANCE.examine(name, properties));
+  }
+
+  @Override
+  public @NotNull R examine(final @Nullable Object value) {
+    return this.walk(value);
+  }
+
+  @Override
+  public @NotNull R examine(final boolean value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final boolean@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final byte value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final byte@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final char value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final char@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final double value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final double@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final float value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final float@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final int value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final int@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final long value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final long@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final short value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull R examine(final short@Nullable[] values) {
+    return this.examiner.examine(values);
+  }
+
+  @Override
+  public @NotNull R examine(final @Nullable String value) {
+    return this.examiner.examine(value);
+  }
+
+  private R walk(final @Nullable Object examined) {
+    final Object value = adapted(examined);
+    if (kind(value) < 0) return this.examiner.examine(value);
+    final CancellationToken token = CancellationToken.current();
+    if (token != null && token.cancelled()) return this.examiner.truncated();
+    final References references = References.current();
+    Stack stack = STACKS.get();
+    if (stack.depth != 0) {
+      // examined again while walking - a scalar's toString(), perhaps
+      stack = new Stack();
+    }
+    try {
+      final R reference = this.enter(stack, value, Projection.current(), references);
+      if (reference != null) return reference;
+      while (true) {
+        final int top = stack.depth - 1;
+        final Children children = stack.children(top);
+        if (!children.hasNext()) {
+          final R result = this.complete(stack, top);
+          stack.pop();
+          if (top == 0) return result;
+          stack.results(top - 1).add(result);
+        } else if (token != null && children.boundary() && token.cancelled()) {
+          // the next element, entry or property is truncated, and the rest are left out
+          children.next();
+          this.truncate(stack, top, children);
+        } else {
+          children.next();
+          if (stack.kinds[top] == EXAMINABLE) {
+            stack.names(top).add(children.name);
+          }
+          final R result = this.enter(stack, children.value(), children.state, references);
+          if (result != null) {
+            stack.results(top).add(result);
+          }
+        }
+      }
+    } finally {
+      stack.clear();
+    }
+  }
+
+  // pushes a container to be walked, returning null - or examines anything else
+  private @Nullable R enter(final Stack stack, final @Nullable Object value, final Projection.@Nullable State projection, final @Nullable References references) {
+    final int kind = kind(value);
+    if (kind < 0) return this.examine(value, projection);
+    String name = null;
+    if (kind == EXAMINABLE) {
+      final Examinable examinable = (Examinable) value;
+      final int id = references == null ? 0 : references.id(examinable);
+      if (id < 0) return this.examiner.reference(-id);
+      name = id == 0 ? examinable.examinableName() : examinable.examinableName() + '@' + id;
+    }
+    stack.push(kind, value, name, projection);
+    return null;
+  }
+
+  private @NotNull R examine(final @Nullable Object value, final Projection.@Nullable State projection) {
+    if (projection == null) return this.examiner.examine(value);
+    final Projection.State previous = Projection.enter(projection);
+    try {
+      return this.examiner.examine(value);
+    } finally {
+      Projection.exit(previous);
+    }
+  }
+
+  private void truncate(final Stack stack, final int frame, final Children children) {
+    final List<Object> results = stack.results(frame);
+    switch (stack.kinds[frame]) {
+      case EXAMINABLE:
+        stack.names(frame).add(children.name);
+        results.add(this.examiner.truncated());
+        break;
+      case MAP:
+        results.add(this.examiner.truncated());
+        results.add(this.examiner.truncated());
+        break;
+      default:
+        results.add(this.examiner.truncated());
+        break;
+    }
+    children.truncate();
+  }
+
+  @SuppressWarnings("unchecked")
+  private R complete(final Stack stack, final int frame) {
+    final Object value = stack.values[frame * Stack.STRIDE];
+    final List<R> results = (List<R>) stack.results(frame);
+    switch (stack.kinds[frame]) {
+      case EXAMINABLE: {
+        final List<String> names = stack.names(frame);
+        final List<Map.Entry<String, R>> properties = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+          properties.add(new AbstractMap.SimpleImmutableEntry<>(names.get(i), results.get(i)));
+        }
+        return this.examiner.examinable(stack.name(frame), properties.stream());
+      }
+      case COLLECTION:
+        return this.examiner.collection((Collection<?>) value, results.stream());
+      case MAP: {
+        final List<Map.Entry<R, R>> entries = new ArrayList<>(results.size() / 2);
+        for (int i = 0; i < results.size(); i += 2) {
+          entries.add(new AbstractMap.SimpleImmutableEntry<>(results.get(i), results.get(i + 1)));
+        }
+        return this.examiner.map((Map<?, ?>) value, entries.stream());
+      }
+      default:
+        return this.examiner.array((Object[]) value, results.stream());
+    }
+  }
+
+  // the examinable a value is examined as by its type adapter, if it has a structured one
+  private static @Nullable Object adapted(final @Nullable Object value) {
+    if (value == null || value instanceof String || value instanceof Examinable || value instanceof Collection<?> || value instanceof Map<?, ?> || value.getClass().isArray()
+      || value instanceof Boolean || value instanceof Character || value instanceof Number || value instanceof BaseStream<?, ?>) {
+      return value;
+    }
+    final Examinable examinable = TypeAdapters.examinable(value);
+    return examinable != null ? examinable : value;
+  }
+
+  // the kind of container a value is, or -1 if it is examined directly
+  private static int kind(final @Nullable Object value) {
+    if (value == null || value instanceof String) {
+      return -1;
+    } else if (value instanceof Examinable) {
+      return EXAMINABLE;
+    } else if (value instanceof Collection<?>) {
+      return COLLECTION;
+    } else if (value instanceof Map<?, ?>) {
+      return MAP;
+    } else if (value instanceof Object[]) {
+      return ARRAY;
+    }
+    return -1;
+  }
+
+  // whether an adapted child is examined beneath its projection - along the way to a path to include, only containers are
+  private static boolean projected(final Projection.@NotNull State projection, final @Nullable Object value) {
+    return projection.included || kind(value) >= 0;
+  }
+
+  /*
+   * The containers being walked, and the results of their children so far - reused by each walk on a thread.
+   */
+  private static final class Stack {
+    // value, children, results, property names, and examinable name
+    static final int STRIDE = 5;
+    int[] kinds = new int[16];
+    Object[] values = new Object[16 * STRIDE];
+    int depth;
+
+    void push(final int kind, final Object value, final @Nullable String name, final Projection.@Nullable State projection) {
+      if (this.depth == this.kinds.length) {
+        this.kinds = Arrays.copyOf(this.kinds, this.depth * 2);
+        this.values = Arrays.copyOf(this.values, this.depth * 2 * STRIDE);
+      }
+      final int base = this.depth * STRIDE;
+      this.kinds[this.depth] = kind;
+      this.values[base] = value;
+      this.values[base + 2] = new ArrayList<>();
+      switch (kind) {
+        case EXAMINABLE: {
+          final Properties properties = new Properties(projection);
+          ((Examinable) value).examineProperties(properties);
+          this.values[base + 1] = properties;
+          this.values[base + 3] = new ArrayList<String>();
+          this.values[base + 4] = name;
+          break;
+        }
+        case COLLECTION:
+          this.values[base + 1] = new Elements(((Collection<?>) value).iterator(), projection);
+          break;
+        case MAP:
+          this.values[base + 1] = new Entries(((Map<?, ?>) value).entrySet().iterator(), projection);
+          break;
+        default:
+          this.values[base + 1] = new Elements(Arrays.asList((Object[]) value).iterator(), projection);
+          break;
+      }
+      this.depth++;
+    }
+
+    void pop() {
+      this.depth--;
+      Arrays.fill(this.values, this.depth * STRIDE, (this.depth + 1) * STRIDE, null);
+    }
+
+    void clear() {
+      Arrays.fill(this.values, 0, this.depth * STRIDE, null);
+      this.depth = 0;
+    }
+
+    Children children(final int frame) {
+      return (Children) this.values[frame * STRIDE + 1];
+    }
+
+    @SuppressWarnings("unchecked")
+    List<Object> results(final int frame) {
+      return (List<Object>) this.values[frame * STRIDE + 2];
+    }
+
+    @SuppressWarnings("unchecked")
+    List<String> names(final int frame) {
+      return (List<String>) this.values[frame * STRIDE + 3];
+    }
+
+    String name(final int frame) {
+      return (String) this.values[frame * STRIDE + 4];
+    }
+  }
+
+  /*
+   * The children of a container which are projected, each adapted and with the projection it is examined beneath.
+   *
+   * Once hasNext() has returned true, the next child is held in value, state and name until next() is called.
+   */
+  private abstract static class Children {
+    final Projection.@Nullable State projection;
+    // the next child's value - read through value(), as a child may only be evaluated once taken
+    @Nullable Object value;
+    Projection.@Nullable State state;
+    @Nullable String name;
+    private boolean ready;
+    private boolean done;
+
+    Children(final Projection.@Nullable State projection) {
+      this.projection = projection;
+    }
+
+    final boolean hasNext() {
+      if (!this.ready && !this.done) {
+        this.ready = this.advance();
+        this.done = !this.ready;
+      }
+      return this.ready;
+    }
+
+    final void next() {
+      this.ready = false;
+    }
+
+    // leaves out every child not yet taken
+    final void truncate() {
+      this.ready = false;
+      this.done = true;
+    }
+
+    // whether the next child begins an element, entry or property - rather than being the value of an entry
+    boolean boundary() {
+      return true;
+    }
+
+    // the value of the child taken by next()
+    @Nullable Object value() {
+      return this.value;
+    }
+
+    // moves to the next child which is projected, returning false once there are none
+    abstract boolean advance();
+  }
+
+  private static final class Elements extends Children {
+    private final Iterator<?> elements;
+    private int index;
+
+    Elements(final Iterator<?> elements, final Projection.@Nullable State projection) {
+      super(projection);
+      this.elements = elements;
+    }
+
+    @Override
+    boolean advance() {
+      while (this.elements.hasNext()) {
+        final Object element = adapted(this.elements.next());
+        final int index = this.index++;
+        if (this.projection == null) {
+          this.value = element;
+          return true;
+        }
+        final Projection.State state = this.projection.element(index);
+        if (state != null && projected(state, element)) {
+          this.value = element;
+          this.state = state;
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  // each key, followed by its value
+  private static final class Entries extends Children {
+    private final Iterator<? extends Map.Entry<?, ?>> entries;
+    private Map.@Nullable Entry<?, ?> entry;
+    private Projection.@Nullable State entryState;
+
+    Entries(final Iterator<? extends Map.Entry<?, ?>> entries, final Projection.@Nullable State projection) {
+      super(projection);
+      this.entries = entries;
+    }
+
+    @Override
+    boolean boundary() {
+      return this.entry != null;
+    }
+
+    @Override
+    boolean advance() {
+      final Map.Entry<?, ?> entry = this.entry;
+      if (entry != null) {
+        this.entry = null;
+        this.value = adapted(entry.getValue());
+        this.state = this.entryState;
+        return true;
+      }
+      while (this.entries.hasNext()) {
+        final Map.Entry<?, ?> next = this.entries.next();
+        if (this.projection != null) {
+          // keys are examined beneath the projection of the map, as they are by AbstractExaminer
+          final Projection.State state = this.projection.entry(next.getKey());
+          if (state == null || !projected(state, adapted(next.getValue()))) continue;
+          this.entryState = state;
+        }
+        this.entry = next;
+        this.value = adapted(next.getKey());
+        this.state = this.projection;
+        return true;
+      }
+      return false;
+    }
+  }
+
+  /*
+   * The unexamined value of each property which is projected.
+   *
+   * Values visited as property objects are not evaluated until they are taken - after the token has been
+   * checked - so that a lazy property which is truncated is never computed. Only along the way to a path to
+   * include is a value evaluated sooner, as whether it is left out depends on it.
+   */
+  private static final class Properties extends Children implements PropertyVisitor {
+    private final List<String> names = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+    private final List<Projection.State> states = new ArrayList<>();
+    // the indices of values which are properties still to be evaluated
+    private final BitSet unevaluated = new BitSet();
+    private @Nullable ExaminableProperty pending;
+    private int index;
+
+    Properties(final Projection.@Nullable State projection) {
+      super(projection);
+    }
+
+    @Override
+    boolean advance() {
+      while (this.index < this.names.size()) {
+        final int index = this.index++;
+        final Projection.State state = this.projection == null ? null : this.states.get(index);
+        if (this.unevaluated.get(index) && (state == null || state.included)) {
+          this.name = this.names.get(index);
+          this.pending = (ExaminableProperty) this.values.get(index);
+          this.state = state;
+          return true;
+        }
+        final Object value = adapted(this.value(index));
+        if (state == null || projected(state, value)) {
+          this.name = this.names.get(index);
+          this.value = value;
+          this.pending = null;
+          this.state = state;
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    @Nullable Object value() {
+      final ExaminableProperty pending = this.pending;
+      if (pending == null) return this.value;
+      this.pending = null;
+      return adapted(pending.examine(ValueExaminer.INSTANCE));
+    }
+
+    private @Nullable Object value(final int index) {
+      final Object value = this.values.get(index);
+      return this.unevaluated.get(index) ? ((ExaminableProperty) value).examine(ValueExaminer.INSTANCE) : value;
+    }
+
+    // whether a property is left out of the projection, before its value is evaluated
+    private boolean skipped(final @NotNull String name) {
+      if (this.projection == null) return false;
+      final Projection.State state = this.projection.property(name);
+      if (state == null) return true;
+      this.states.add(state);
+      return false;
+    }
+
+    private void add(final @NotNull String name, final @Nullable Object value) {
+      if (this.skipped(name)) return;
+      this.names.add(name);
+      this.values.add(value);
+    }
+
+    @Override
+    public void visit(final @NotNull ExaminableProperty property) {
+      if (this.skipped(property.name())) return;
+      this.unevaluated.set(this.names.size());
+      this.names.add(property.name());
+      this.values.add(property);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final @Nullable Object value) {
+      this.add(name, value);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final @Nullable String value) {
+      this.add(name, value);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final boolean value) {
+      this.add(name, value);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final boolean@Nullable[] values) {
+      this.add(name, values);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final byte value) {
+      this.add(name, value);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final byte@Nullable[] values) {
+      this.add(name, values);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final char value) {
+      this.add(name, value);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final char@Nullable[] values) {
+      this.add(name, values);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final double value) {
+      this.add(name, value);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final double@Nullable[] values) {
+      this.add(name, values);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final float value) {
+      this.add(name, value);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final float@Nullable[] values) {
+      this.add(name, values);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final int value) {
+      this.add(name, value);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final int@Nullable[] values) {
+      this.add(name, values);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final long value) {
+      this.add(name, value);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final long@Nullable[] values) {
+      this.add(name, values);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final short value) {
+      this.add(name, value);
+    }
+
+    @Override
+    public void visit(final @NotNull String name, final short@Nullable[] values) {
+      this.add(name, values);
+    }
+  }
+}
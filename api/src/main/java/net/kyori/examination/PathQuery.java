@@ -0,0 +1,193 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A query for one value deep within another, by its path.
+ *
+ * <p>A path is a sequence of segments separated by {@code .}, each being a property name, a collection
+ * or array index, or a map key, as in {@code sessions[42].player.inventory.size} - the same paths as a
+ * {@link Projection}, without wildcards. Map keys are matched by their {@code toString()}.</p>
+ *
+ * <p>Only the value found is examined. On the way to it, properties are looked through only until the one
+ * named is found, and no other is computed - so a {@linkplain ExaminableProperty#lazy(String, Supplier) lazy
+ * property} which is not on the path is never evaluated.</p>
+ *
+ * <p>A query is compiled once, and may then be used any number of times, from any thread.</p>
+ *
+ * @since 1.4.0
+ */
+public final class PathQuery {
+  // stands in for a value which is not there, as null may be
+  private static final Object MISSING = new Object();
+  private final String path;
+  private final String[] segments;
+  // each segment as an index, or -1 if it is not one
+  private final int[] indices;
+
+  /**
+   * Compiles a query.
+   *
+   * @param path the path
+   * @return a query
+   * @throws IllegalArgumentException if {@code path} is not valid
+   * @since 1.4.0
+   */
+  public static @NotNull PathQuery compile(final @NotNull String path) {
+    final String[] segments = Projection.segments(path);
+    final int[] indices = new int[segments.length];
+    for (int i = 0; i < segments.length; i++) {
+      indices[i] = index(segments[i]);
+    }
+    return new PathQuery(path, segments, indices);
+  }
+
+  private PathQuery(final String path, final String[] segments, final int[] indices) {
+    this.path = path;
+    this.segments = segments;
+    this.indices = indices;
+  }
+
+  private static int index(final String segment) {
+    if (segment.length() > 9) return -1;
+    int index = 0;
+    for (int i = 0; i < segment.length(); i++) {
+      final char c = segment.charAt(i);
+      if (c < '0' || c > '9') return -1;
+      index = index * 10 + (c - '0');
+    }
+    return index;
+  }
+
+  /**
+   * Gets the path of this query.
+   *
+   * @return the path
+   * @since 1.4.0
+   */
+  public @NotNull String path() {
+    return this.path;
+  }
+
+  /**
+   * Examines the value at the path of this query within {@code value}.
+   *
+   * @param examiner the examiner
+   * @param value the value to search within
+   * @param <R> the result type
+   * @return the result from examining the value found, or nothing if there is no value at the path
+   * @since 1.4.0
+   */
+  public <R> @NotNull Optional<R> examine(final @NotNull Examiner<R> examiner, final @Nullable Object value) {
+    Object current = value;
+    for (int i = 0; i < this.segments.length && current != MISSING; i++) {
+      current = this.step(current, i);
+    }
+    return current == MISSING ? Optional.empty() : Optional.of(examiner.examine(current));
+  }
+
+  private @Nullable Object step(final @Nullable Object value, final int segment) {
+    if (value == null) {
+      return MISSING;
+    } else if (value instanceof Examinable) {
+      return this.property((Examinable) value, this.segments[segment]);
+    } else if (value instanceof Map<?, ?>) {
+      return entry((Map<?, ?>) value, this.segments[segment]);
+    }
+    final int index = this.indices[segment];
+    if (value instanceof Collection<?>) {
+      return index == -1 ? MISSING : element((Collection<?>) value, index);
+    } else if (value.getClass().isArray()) {
+      return index == -1 || index >= Array.getLength(value) ? MISSING : Array.get(value, index);
+    }
+    final Examinable examinable = TypeAdapters.examinable(value);
+    return examinable == null ? MISSING : this.property(examinable, this.segments[segment]);
+  }
+
+  private @Nullable Object property(final Examinable examinable, final String name) {
+    if (AbstractExaminer.visitsProperties(examinable)) {
+      final Finder finder = new Finder(name);
+      examinable.examineProperties(finder);
+      return finder.found == null ? MISSING : finder.found.examine(ValueExaminer.INSTANCE);
+    }
+    return examinable.examinableProperties()
+      .filter(property -> property.name().equals(name))
+      .findFirst()
+      .<Object>map(property -> property.examine(ValueExaminer.INSTANCE))
+      .orElse(MISSING);
+  }
+
+  private static @Nullable Object entry(final Map<?, ?> map, final String key) {
+    try {
+      final Object value = map.get(key);
+      if (value != null) return value;
+    } catch (final ClassCastException | NullPointerException e) {
+      // keys of another type, which are matched by their string below
+    }
+    for (final Map.Entry<?, ?> entry : map.entrySet()) {
+      if (key.equals(String.valueOf(entry.getKey()))) return entry.getValue();
+    }
+    return MISSING;
+  }
+
+  private static @Nullable Object element(final Collection<?> collection, final int index) {
+    if (index >= collection.size()) return MISSING;
+    if (collection instanceof List<?>) return ((List<?>) collection).get(index);
+    final Iterator<?> it = collection.iterator();
+    for (int i = 0; i < index; i++) {
+      it.next();
+    }
+    return it.next();
+  }
+
+  @Override
+  public String toString() {
+    return "PathQuery{path=" + this.path + "}";
+  }
+
+  // keeps the first property with a name, ignoring the rest
+  private static final class Finder implements PropertyVisitor {
+    private final String name;
+    @Nullable ExaminableProperty found;
+
+    Finder(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void visit(final @NotNull ExaminableProperty property) {
+      if (this.found == null && property.name().equals(this.name)) this.found = property;
+    }
+  }
+}
@@ -0,0 +1,385 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A projection of the values examined, chosen by paths to include and exclude.
+ *
+ * <p>A path is a sequence of segments separated by {@code .}, each being a property name, a collection
+ * or array index, or a map key. An index or key may also be written in brackets, as in {@code items[0].name}.
+ * A segment of {@code *} matches any one segment, and {@code **} matches any number of segments. An index
+ * counts from {@code 0} in iteration order, and a key matches by its {@link String#valueOf(Object) string value}.
+ * Arrays of primitives are examined whole or not at all, so a path into one does not match.</p>
+ *
+ * <p>When there are paths to include, only values along or beneath them are examined. Values at or beneath
+ * a path to exclude are never examined. Values left out are skipped entirely - the property, element or entry
+ * is not examined, and a {@linkplain ExaminableProperty#lazy(String, Supplier) lazy property} is not computed.</p>
+ *
+ * <p>A projection applies to examinations by an {@link AbstractExaminer} made on the same thread from within
+ * {@link #run(Supplier)}. Paths are compiled when the projection is created, so that each value examined costs
+ * one lookup.</p>
+ *
+ * @since 1.4.0
+ */
+public final class Projection {
+  private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+  // the number of threads with a projection, so that examinations without one do not need to look
+  private static final AtomicInteger RUNNING = new AtomicInteger();
+  private static final String ANY = "*";
+  private static final String ANY_DEPTH = "**";
+  private final State root;
+
+  /**
+   * Creates a projection which includes only values along or beneath {@code paths}.
+   *
+   * @param paths the paths to include
+   * @return a projection
+   * @throws IllegalArgumentException if a path is not valid
+   * @since 1.4.0
+   */
+  public static @NotNull Projection include(final @NotNull String@NotNull... paths) {
+    return of(Arrays.asList(paths), Collections.emptyList());
+  }
+
+  /**
+   * Creates a projection which includes all values except those at or beneath {@code paths}.
+   *
+   * @param paths the paths to exclude
+   * @return a projection
+   * @throws IllegalArgumentException if a path is not valid
+   * @since 1.4.0
+   */
+  public static @NotNull Projection exclude(final @NotNull String@NotNull... paths) {
+    return of(Collections.emptyList(), Arrays.asList(paths));
+  }
+
+  /**
+   * Creates a projection.
+   *
+   * @param includes the paths to include, or none to include everything not excluded
+   * @param excludes the paths to exclude
+   * @return a projection
+   * @throws IllegalArgumentException if a path is not valid
+   * @since 1.4.0
+   */
+  public static @NotNull Projection of(final @NotNull Collection<String> includes, final @NotNull Collection<String> excludes) {
+    return new Projection(new Compiler(includes, excludes).compile());
+  }
+
+  private Projection(final State root) {
+    this.root = root;
+  }
+
+  /**
+   * Runs {@code action}, applying this projection to any examination it makes on the current thread.
+   *
+   * @param action the action
+   * @param <T> the result type
+   * @return the result of {@code action}
+   * @since 1.4.0
+   */
+  public <T> T run(final @NotNull Supplier<T> action) {
+    return run(this.root, action);
+  }
+
+  static <T> T run(final @NotNull State state, final @NotNull Supplier<T> action) {
+    final State previous = CURRENT.get();
+    CURRENT.set(state);
+    RUNNING.incrementAndGet();
+    try {
+      return action.get();
+    } finally {
+      RUNNING.decrementAndGet();
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Examines {@code value} with {@code examiner}, applying this projection.
+   *
+   * @param examiner the examiner
+   * @param value the value
+   * @param <R> the result type
+   * @return the result
+   * @since 1.4.0
+   */
+  public <R> @NotNull R examine(final @NotNull Examiner<R> examiner, final @Nullable Object value) {
+    return this.run(() -> examiner.examine(value));
+  }
+
+  static @Nullable State current() {
+    if (RUNNING.get() == 0) return null;
+    return CURRENT.get();
+  }
+
+  // makes state current while examining a child, returning the state to restore afterwards
+  static @Nullable State enter(final @NotNull State state) {
+    final State previous = CURRENT.get();
+    // beneath here everything is examined, so there is nothing left to check
+    CURRENT.set(state == State.ALL ? null : state);
+    return previous;
+  }
+
+  static void exit(final @Nullable State previous) {
+    CURRENT.set(previous);
+  }
+
+  /**
+   * Splits a path into its segments.
+   *
+   * @param path the path
+   * @return the segments
+   * @throws IllegalArgumentException if the path is not valid
+   */
+  static @NotNull String@NotNull[] segments(final @NotNull String path) {
+    final List<String> segments = new ArrayList<>();
+    final int length = path.length();
+    int i = 0;
+    while (true) {
+      if (i < length && path.charAt(i) == '[') {
+        final int end = path.indexOf(']', i + 1);
+        if (end == -1) throw new IllegalArgumentException("Unclosed '[' in path '" + path + "'");
+        segments.add(segment(path, i + 1, end));
+        i = end + 1;
+        if (i < length && path.charAt(i) != '.' && path.charAt(i) != '[') {
+          throw new IllegalArgumentException("Expected '.' or '[' after ']' in path '" + path + "'");
+        }
+      } else {
+        int end = i;
+        while (end < length && path.charAt(end) != '.' && path.charAt(end) != '[') end++;
+        segments.add(segment(path, i, end));
+        i = end;
+      }
+      if (i == length) break;
+      // a bracketed segment follows on directly
+      if (path.charAt(i) == '.') i++;
+    }
+    return segments.toArray(new String[0]);
+  }
+
+  private static String segment(final String path, final int start, final int end) {
+    if (start == end) throw new IllegalArgumentException("Empty segment in path '" + path + "'");
+    return path.substring(start, end);
+  }
+
+  /*
+   * A point in the examination, as a state of the automaton compiled from the paths. Stepping to a child
+   * gives its state, or null if the child is left out.
+   */
+  static final class State {
+    // everything beneath is examined
+    static final State ALL = new State(true, Collections.emptyMap());
+    // nothing is examined
+    static final State NONE = new State(false, Collections.emptyMap());
+
+    // whether this is at or beneath a path to include, rather than only along the way to one
+    final boolean included;
+    final Map<String, State> named;
+    // the state for any segment which is not named
+    State other;
+
+    State(final boolean included, final Map<String, State> named) {
+      this.included = included;
+      this.named = named;
+    }
+
+    @Nullable State property(final @NotNull String name) {
+      return this.step(name);
+    }
+
+    @Nullable State element(final int index) {
+      // an index is matched as its segment - but when no path names a segment, anything steps to other, so there is no segment to make
+      if (this == ALL || this.named.isEmpty()) return this.step(null);
+      return this.step(Integer.toString(index));
+    }
+
+    @Nullable State entry(final @Nullable Object key) {
+      // as with an index
+      if (this == ALL || this.named.isEmpty()) return this.step(null);
+      return this.step(String.valueOf(key));
+    }
+
+    // the state for segment, or other if it is null or not named
+    private @Nullable State step(final @Nullable String segment) {
+      if (this == ALL) return this;
+      State next = segment == null ? null : this.named.get(segment);
+      if (next == null) next = this.other;
+      return next == NONE ? null : next;
+    }
+  }
+
+  /*
+   * Builds a deterministic automaton from the paths: each position along each path is a position of a
+   * nondeterministic one, and each state is the set of positions which a point in the examination could be at.
+   */
+  private static final class Compiler {
+    // the segment at each position, or null at the end of a path
+    private final List<String> positions = new ArrayList<>();
+    private final BitSet excluding = new BitSet();
+    private final BitSet starts = new BitSet();
+    private final BitSet including = new BitSet();
+    private final Set<String> literals = new HashSet<>();
+    private final boolean includeAll;
+
+    Compiler(final Collection<String> includes, final Collection<String> excludes) {
+      for (final String path : includes) {
+        this.add(path, false);
+      }
+      for (final String path : excludes) {
+        this.add(path, true);
+      }
+      this.including.set(0, this.positions.size());
+      this.including.andNot(this.excluding);
+      this.includeAll = includes.isEmpty();
+    }
+
+    private void add(final String path, final boolean exclude) {
+      final int start = this.positions.size();
+      this.starts.set(start);
+      for (final String segment : segments(path)) {
+        if (!segment.equals(ANY) && !segment.equals(ANY_DEPTH)) this.literals.add(segment);
+        this.positions.add(segment);
+      }
+      this.positions.add(null);
+      if (exclude) this.excluding.set(start, this.positions.size());
+    }
+
+    State compile() {
+      final Map<Key, State> states = new HashMap<>();
+      final Deque<Key> pending = new ArrayDeque<>();
+      final Key root = this.key(this.includeAll, (BitSet) this.starts.clone());
+      final State start = new State(root.included, new HashMap<>());
+      states.put(root, start);
+      pending.add(root);
+      while (!pending.isEmpty()) {
+        final Key key = pending.poll();
+        final State state = states.get(key);
+        for (final String literal : this.literals) {
+          state.named.put(literal, this.target(key, literal, states, pending));
+        }
+        state.other = this.target(key, null, states, pending);
+      }
+      return start;
+    }
+
+    private State target(final Key from, final @Nullable String segment, final Map<Key, State> states, final Deque<Key> pending) {
+      final BitSet next = new BitSet();
+      for (int i = from.positions.nextSetBit(0); i >= 0; i = from.positions.nextSetBit(i + 1)) {
+        final String at = this.positions.get(i);
+        if (at == null) continue;
+        if (at.equals(ANY_DEPTH)) {
+          next.set(i);
+        } else if (at.equals(ANY) || at.equals(segment)) {
+          next.set(i + 1);
+        }
+      }
+      final Key key = this.key(from.included, next);
+      if (key.excluded || !key.included && key.positions.isEmpty()) return State.NONE;
+      if (key.included && key.positions.isEmpty()) return State.ALL;
+      State state = states.get(key);
+      if (state == null) {
+        state = new State(key.included, new HashMap<>());
+        states.put(key, state);
+        pending.add(key);
+      }
+      return state;
+    }
+
+    // follows '**' without consuming a segment, and works out whether any path has ended
+    private Key key(final boolean included, final BitSet positions) {
+      boolean changed = true;
+      while (changed) {
+        changed = false;
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+          if (ANY_DEPTH.equals(this.positions.get(i)) && !positions.get(i + 1)) {
+            positions.set(i + 1);
+            changed = true;
+          }
+        }
+      }
+      boolean nowIncluded = included;
+      boolean excluded = false;
+      for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+        if (this.positions.get(i) == null) {
+          if (this.excluding.get(i)) {
+            excluded = true;
+          } else {
+            nowIncluded = true;
+          }
+        }
+      }
+      if (nowIncluded) {
+        // once included, where the paths to include go no longer matters
+        positions.andNot(this.including);
+      }
+      return new Key(nowIncluded, excluded, positions);
+    }
+  }
+
+  private static final class Key {
+    final boolean included;
+    final boolean excluded;
+    final BitSet positions;
+
+    Key(final boolean included, final boolean excluded, final BitSet positions) {
+      this.included = included;
+      this.excluded = excluded;
+      this.positions = positions;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) return true;
+      if (!(other instanceof Key)) return false;
+      final Key that = (Key) other;
+      return this.included == that.included && this.excluded == that.excluded && this.positions.equals(that.positions);
+    }
+
+    @Override
+    public int hashCode() {
+      return (this.positions.hashCode() * 31 + (this.included ? 1 : 0)) * 31 + (this.excluded ? 1 : 0);
+    }
+  }
+}
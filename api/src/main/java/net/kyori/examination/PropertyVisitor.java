@@ -0,0 +1,246 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A visitor of examinable properties.
+ *
+ * <p>Examinables may push their properties to a visitor using {@link Examinable#examineProperties(PropertyVisitor)},
+ * which avoids creating a property object for each value when the visitor handles it directly.</p>
+ *
+ * <p>Each typed method creates an {@link ExaminableProperty} and passes it to {@link #visit(ExaminableProperty)}
+ * by default.</p>
+ *
+ * @since 1.4.0
+ */
+public interface PropertyVisitor {
+  /**
+   * Visits a property.
+   *
+   * @param property the property
+   * @since 1.4.0
+   */
+  void visit(final @NotNull ExaminableProperty property);
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param value the value
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final @Nullable Object value) {
+    this.visit(ExaminableProperty.of(name, value));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param value the value
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final @Nullable String value) {
+    this.visit(ExaminableProperty.of(name, value));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param value the value
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final boolean value) {
+    this.visit(ExaminableProperty.of(name, value));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param values the values
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final boolean@Nullable[] values) {
+    this.visit(ExaminableProperty.of(name, values));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param value the value
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final byte value) {
+    this.visit(ExaminableProperty.of(name, value));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param values the values
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final byte@Nullable[] values) {
+    this.visit(ExaminableProperty.of(name, values));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param value the value
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final char value) {
+    this.visit(ExaminableProperty.of(name, value));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param values the values
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final char@Nullable[] values) {
+    this.visit(ExaminableProperty.of(name, values));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param value the value
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final double value) {
+    this.visit(ExaminableProperty.of(name, value));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param values the values
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final double@Nullable[] values) {
+    this.visit(ExaminableProperty.of(name, values));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param value the value
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final float value) {
+    this.visit(ExaminableProperty.of(name, value));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param values the values
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final float@Nullable[] values) {
+    this.visit(ExaminableProperty.of(name, values));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param value the value
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final int value) {
+    this.visit(ExaminableProperty.of(name, value));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param values the values
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final int@Nullable[] values) {
+    this.visit(ExaminableProperty.of(name, values));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param value the value
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final long value) {
+    this.visit(ExaminableProperty.of(name, value));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param values the values
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final long@Nullable[] values) {
+    this.visit(ExaminableProperty.of(name, values));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param value the value
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final short value) {
+    this.visit(ExaminableProperty.of(name, value));
+  }
+
+  /**
+   * Visits a property.
+   *
+   * @param name the name
+   * @param values the values
+   * @since 1.4.0
+   */
+  default void visit(final @NotNull String name, final short@Nullable[] values) {
+    this.visit(ExaminableProperty.of(name, values));
+  }
+}
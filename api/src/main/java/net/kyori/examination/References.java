@@ -0,0 +1,103 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Examines each examinable in full only once, referring back to it wherever it is reached again.
+ *
+ * <p>An examinable is given an id the first time it is examined, which is written after its name - as in
+ * {@code Style@3{...}}. Wherever the same examinable is reached again, by identity, a
+ * {@linkplain AbstractExaminer#reference(int) reference} such as {@code @3} is written instead. This keeps
+ * graphs which share an examinable many times small, and examinables which refer back to themselves finite.</p>
+ *
+ * <p>References apply to examinations by an {@link AbstractExaminer} made on the same thread from within
+ * {@link #run(Supplier)}. Ids start again from {@code 1} for each call. This includes the examiners built on one -
+ * event examiners such as {@link TeeExaminer}, as well as {@link SnapshotExaminer} and {@link IterativeExaminer} -
+ * so any of them can examine an examinable which refers back to itself.</p>
+ *
+ * @since 1.4.0
+ */
+public final class References {
+  private static final ThreadLocal<References> CURRENT = new ThreadLocal<>();
+  // the number of threads with references, so that examinations without them do not need to look
+  private static final AtomicInteger RUNNING = new AtomicInteger();
+  private final Map<Examinable, Integer> ids = new IdentityHashMap<>();
+
+  private References() {
+  }
+
+  /**
+   * Runs {@code action}, referring back to examinables already examined in any examination it makes on the current thread.
+   *
+   * <p>When already within a call, the ids given so far are kept.</p>
+   *
+   * @param action the action
+   * @param <T> the result type
+   * @return the result of {@code action}
+   * @since 1.4.0
+   */
+  public static <T> T run(final @NotNull Supplier<T> action) {
+    if (current() != null) return action.get();
+    CURRENT.set(new References());
+    RUNNING.incrementAndGet();
+    try {
+      return action.get();
+    } finally {
+      RUNNING.decrementAndGet();
+      CURRENT.remove();
+    }
+  }
+
+  /**
+   * Examines {@code value} with {@code examiner}, referring back to examinables already examined.
+   *
+   * @param examiner the examiner
+   * @param value the value
+   * @param <R> the result type
+   * @return the result
+   * @since 1.4.0
+   */
+  public static <R> @NotNull R examine(final @NotNull Examiner<R> examiner, final @Nullable Object value) {
+    return run(() -> examiner.examine(value));
+  }
+
+  static @Nullable References current() {
+    if (RUNNING.get() == 0) return null;
+    return CURRENT.get();
+  }
+
+  // the id given to examinable now, or the negated id it was already given
+  int id(final @NotNull Examinable examinable) {
+    final int next = this.ids.size() + 1;
+    final Integer id = this.ids.putIfAbsent(examinable, next);
+    return id == null ? next : -id;
+  }
+}
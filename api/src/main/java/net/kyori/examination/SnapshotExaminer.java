@@ -0,0 +1,491 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static net.kyori.examination.ExaminationSnapshot.ARRAY;
+import static net.kyori.examination.ExaminationSnapshot.BOOLEAN;
+import static net.kyori.examination.ExaminationSnapshot.BOOLEAN_ARRAY;
+import static net.kyori.examination.ExaminationSnapshot.BYTE;
+import static net.kyori.examination.ExaminationSnapshot.BYTE_ARRAY;
+import static net.kyori.examination.ExaminationSnapshot.CHAR;
+import static net.kyori.examination.ExaminationSnapshot.CHAR_ARRAY;
+import static net.kyori.examination.ExaminationSnapshot.COLLECTION;
+import static net.kyori.examination.ExaminationSnapshot.DOUBLE;
+import static net.kyori.examination.ExaminationSnapshot.DOUBLE_ARRAY;
+import static net.kyori.examination.ExaminationSnapshot.EXAMINABLE;
+import static net.kyori.examination.ExaminationSnapshot.FLOAT;
+import static net.kyori.examination.ExaminationSnapshot.FLOAT_ARRAY;
+import static net.kyori.examination.ExaminationSnapshot.INT;
+import static net.kyori.examination.ExaminationSnapshot.INT_ARRAY;
+import static net.kyori.examination.ExaminationSnapshot.LONG;
+import static net.kyori.examination.ExaminationSnapshot.LONG_ARRAY;
+import static net.kyori.examination.ExaminationSnapshot.MAP;
+import static net.kyori.examination.ExaminationSnapshot.NIL;
+import static net.kyori.examination.ExaminationSnapshot.PROPERTY;
+import static net.kyori.examination.ExaminationSnapshot.SCALAR;
+import static net.kyori.examination.ExaminationSnapshot.SHORT;
+import static net.kyori.examination.ExaminationSnapshot.SHORT_ARRAY;
+import static net.kyori.examination.ExaminationSnapshot.STRIDE;
+import static net.kyori.examination.ExaminationSnapshot.STRING;
+
+/**
+ * An examiner which captures an {@link ExaminationSnapshot}.
+ *
+ * <p>A snapshot can be examined by any other examiner, as often as needed, without examining the
+ * original objects again - for example, to produce a string, a hash, and some metrics from a single
+ * capture.</p>
+ *
+ * @since 1.4.0
+ */
+public final class SnapshotExaminer implements Examiner<ExaminationSnapshot> {
+  private static final SnapshotExaminer INSTANCE = new SnapshotExaminer();
+
+  /**
+   * Gets the snapshot examiner.
+   *
+   * @return the snapshot examiner
+   * @since 1.4.0
+   */
+  public static @NotNull SnapshotExaminer instance() {
+    return INSTANCE;
+  }
+
+  private SnapshotExaminer() {
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final @NotNull String name, final @NotNull Stream<? extends ExaminableProperty> properties) {
+    return new Capture().examine(name, properties).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final @Nullable Object value) {
+    return new Capture().examine(value).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final boolean value) {
+    return new Capture().examine(value).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final boolean@Nullable[] values) {
+    return new Capture().examine(values).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final byte value) {
+    return new Capture().examine(value).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final byte@Nullable[] values) {
+    return new Capture().examine(values).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final char value) {
+    return new Capture().examine(value).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final char@Nullable[] values) {
+    return new Capture().examine(values).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final double value) {
+    return new Capture().examine(value).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final double@Nullable[] values) {
+    return new Capture().examine(values).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final float value) {
+    return new Capture().examine(value).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final float@Nullable[] values) {
+    return new Capture().examine(values).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final int value) {
+    return new Capture().examine(value).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final int@Nullable[] values) {
+    return new Capture().examine(values).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final long value) {
+    return new Capture().examine(value).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final long@Nullable[] values) {
+    return new Capture().examine(values).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final short value) {
+    return new Capture().examine(value).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final short@Nullable[] values) {
+    return new Capture().examine(values).snapshot();
+  }
+
+  @Override
+  public @NotNull ExaminationSnapshot examine(final @Nullable String value) {
+    return new Capture().examine(value).snapshot();
+  }
+
+  /*
+   * Writes nodes in the order they are examined. Children are examined lazily, as the hooks consume
+   * their streams, so a container's node is written before its children and its end is patched in
+   * once they have all been written.
+   */
+  private static final class Capture extends AbstractExaminer<Capture> {
+    private int[] nodes = new int[16 * STRIDE];
+    private int size;
+    private long[] data = new long[16];
+    private int dataSize;
+    private final Map<String, Integer> stringIndices = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    // the examinable nodes still being written
+    private int[] examinables = new int[8];
+    private int depth;
+
+    @NotNull ExaminationSnapshot snapshot() {
+      return new ExaminationSnapshot(
+        Arrays.copyOf(this.nodes, this.size * STRIDE),
+        Arrays.copyOf(this.data, this.dataSize),
+        this.strings.toArray(new String[0])
+      );
+    }
+
+    @Override
+    protected <E> @NotNull Capture array(final E@NotNull[] array, final @NotNull Stream<Capture> elements) {
+      return this.container(ARRAY, elements);
+    }
+
+    @Override
+    protected <E> @NotNull Capture collection(final @NotNull Collection<E> collection, final @NotNull Stream<Capture> elements) {
+      return this.container(COLLECTION, elements);
+    }
+
+    @Override
+    void enterExaminable(final @NotNull String name) {
+      if (this.depth == this.examinables.length) {
+        this.examinables = Arrays.copyOf(this.examinables, this.depth * 2);
+      }
+      this.examinables[this.depth++] = this.node(EXAMINABLE, this.string(name), 0);
+    }
+
+    @Override
+    void enterProperty(final @NotNull String name) {
+      this.node(PROPERTY, this.string(name), 0);
+    }
+
+    @Override
+    protected @NotNull Capture examinable(final @NotNull String name, final @NotNull Stream<Map.Entry<String, Capture>> properties) {
+      // the examinable node was written once it was entered, and each property is written as its entry is produced
+      count(properties);
+      return this.end(this.examinables[--this.depth]);
+    }
+
+    @Override
+    protected <K, V> @NotNull Capture map(final @NotNull Map<K, V> map, final @NotNull Stream<Map.Entry<Capture, Capture>> entries) {
+      return this.container(MAP, entries);
+    }
+
+    @Override
+    protected @NotNull Capture nil() {
+      this.node(NIL, 0, 0);
+      return this;
+    }
+
+    @Override
+    protected @NotNull Capture scalar(final @NotNull Object value) {
+      this.node(SCALAR, this.string(String.valueOf(value)), 0);
+      return this;
+    }
+
+    @Override
+    protected <T> @NotNull Capture stream(final @NotNull Stream<T> stream) {
+      return this.container(COLLECTION, stream.map(this::examine));
+    }
+
+    @Override
+    protected @NotNull Capture stream(final @NotNull DoubleStream stream) {
+      return this.examine(stream.toArray());
+    }
+
+    @Override
+    protected @NotNull Capture stream(final @NotNull IntStream stream) {
+      return this.examine(stream.toArray());
+    }
+
+    @Override
+    protected @NotNull Capture stream(final @NotNull LongStream stream) {
+      return this.examine(stream.toArray());
+    }
+
+    @Override
+    protected @NotNull Capture array(final int length, final @NotNull IntFunction<Capture> value) {
+      final int node = this.node(COLLECTION, length, 0);
+      for (int i = 0; i < length; i++) {
+        value.apply(i);
+      }
+      return this.end(node);
+    }
+
+    @Override
+    public @NotNull Capture examine(final boolean value) {
+      this.node(BOOLEAN, value ? 1 : 0, 0);
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final byte value) {
+      this.node(BYTE, value, 0);
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final char value) {
+      this.node(CHAR, value, 0);
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final double value) {
+      this.node(DOUBLE, this.data(Double.doubleToRawLongBits(value)), 0);
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final float value) {
+      this.node(FLOAT, Float.floatToRawIntBits(value), 0);
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final int value) {
+      this.node(INT, value, 0);
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final long value) {
+      this.node(LONG, this.data(value), 0);
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final short value) {
+      this.node(SHORT, value, 0);
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final @Nullable String value) {
+      if (value == null) return this.nil();
+      this.node(STRING, this.string(value), 0);
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final boolean@Nullable[] values) {
+      if (values == null) return this.nil();
+      final int offset = this.pack(BOOLEAN_ARRAY, values.length, 1);
+      for (int i = 0; i < values.length; i++) {
+        this.put(offset, i, 1, values[i] ? 1 : 0);
+      }
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final byte@Nullable[] values) {
+      if (values == null) return this.nil();
+      final int offset = this.pack(BYTE_ARRAY, values.length, Byte.SIZE);
+      for (int i = 0; i < values.length; i++) {
+        this.put(offset, i, Byte.SIZE, values[i]);
+      }
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final char@Nullable[] values) {
+      if (values == null) return this.nil();
+      final int offset = this.pack(CHAR_ARRAY, values.length, Character.SIZE);
+      for (int i = 0; i < values.length; i++) {
+        this.put(offset, i, Character.SIZE, values[i]);
+      }
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final double@Nullable[] values) {
+      if (values == null) return this.nil();
+      final int offset = this.pack(DOUBLE_ARRAY, values.length, Double.SIZE);
+      for (int i = 0; i < values.length; i++) {
+        this.data[offset + i] = Double.doubleToRawLongBits(values[i]);
+      }
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final float@Nullable[] values) {
+      if (values == null) return this.nil();
+      final int offset = this.pack(FLOAT_ARRAY, values.length, Float.SIZE);
+      for (int i = 0; i < values.length; i++) {
+        this.put(offset, i, Float.SIZE, Float.floatToRawIntBits(values[i]));
+      }
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final int@Nullable[] values) {
+      if (values == null) return this.nil();
+      final int offset = this.pack(INT_ARRAY, values.length, Integer.SIZE);
+      for (int i = 0; i < values.length; i++) {
+        this.put(offset, i, Integer.SIZE, values[i]);
+      }
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final long@Nullable[] values) {
+      if (values == null) return this.nil();
+      final int offset = this.pack(LONG_ARRAY, values.length, Long.SIZE);
+      System.arraycopy(values, 0, this.data, offset, values.length);
+      return this;
+    }
+
+    @Override
+    public @NotNull Capture examine(final short@Nullable[] values) {
+      if (values == null) return this.nil();
+      final int offset = this.pack(SHORT_ARRAY, values.length, Short.SIZE);
+      for (int i = 0; i < values.length; i++) {
+        this.put(offset, i, Short.SIZE, values[i]);
+      }
+      return this;
+    }
+
+    private @NotNull Capture container(final int kind, final @NotNull Stream<?> children) {
+      final int node = this.node(kind, 0, 0);
+      this.nodes[node * STRIDE + 1] = count(children);
+      return this.end(node);
+    }
+
+    // not Stream#count, which may skip evaluating the elements when the size is known
+    private static int count(final @NotNull Stream<?> children) {
+      final Iterator<?> it = children.iterator();
+      int count = 0;
+      while (it.hasNext()) {
+        it.next();
+        count++;
+      }
+      return count;
+    }
+
+    private @NotNull Capture end(final int node) {
+      this.nodes[node * STRIDE + 2] = this.size;
+      return this;
+    }
+
+    private int node(final int kind, final int a, final int b) {
+      if (this.size * STRIDE == this.nodes.length) {
+        this.nodes = Arrays.copyOf(this.nodes, this.nodes.length * 2);
+      }
+      final int index = this.size * STRIDE;
+      this.nodes[index] = kind;
+      this.nodes[index + 1] = a;
+      this.nodes[index + 2] = b;
+      return this.size++;
+    }
+
+    private int string(final @NotNull String string) {
+      final Integer existing = this.stringIndices.get(string);
+      if (existing != null) return existing;
+      final int index = this.strings.size();
+      this.strings.add(string);
+      this.stringIndices.put(string, index);
+      return index;
+    }
+
+    private int data(final long value) {
+      final int index = this.reserve(1);
+      this.data[index] = value;
+      return index;
+    }
+
+    // writes a primitive array node, reserving enough words to pack its elements
+    private int pack(final int kind, final int length, final int bits) {
+      final int offset = this.reserve((int) (((long) length * bits + Long.SIZE - 1) / Long.SIZE));
+      this.node(kind, length, offset);
+      return offset;
+    }
+
+    private void put(final int offset, final int index, final int bits, final long value) {
+      final int perWord = Long.SIZE / bits;
+      final long mask = (1L << bits) - 1;
+      this.data[offset + index / perWord] |= (value & mask) << ((index % perWord) * bits);
+    }
+
+    private int reserve(final int words) {
+      final int offset = this.dataSize;
+      if (offset + words > this.data.length) {
+        this.data = Arrays.copyOf(this.data, Math.max(this.data.length * 2, offset + words));
+      }
+      this.dataSize = offset + words;
+      return offset;
+    }
+
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An examiner which examines each value once, passing each event on to several event examiners.
+ *
+ * <p>Properties are examined once, however many examiners there are - the result of each examiner
+ * is the same as if it had examined the value alone.</p>
+ *
+ * @since 1.4.0
+ */
+public final class TeeExaminer extends AbstractEventExaminer<TeeExaminer.Results> {
+  private final AbstractEventExaminer<?>[] examiners;
+
+  /**
+   * Creates a tee examiner.
+   *
+   * @param examiners the examiners to pass events on to
+   * @return a tee examiner
+   * @since 1.4.0
+   */
+  public static @NotNull TeeExaminer of(final @NotNull AbstractEventExaminer<?>@NotNull... examiners) {
+    return new TeeExaminer(examiners.clone());
+  }
+
+  /**
+   * Creates a tee examiner.
+   *
+   * @param examiners the examiners to pass events on to
+   * @return a tee examiner
+   * @since 1.4.0
+   */
+  public static @NotNull TeeExaminer of(final @NotNull List<? extends AbstractEventExaminer<?>> examiners) {
+    return new TeeExaminer(examiners.toArray(new AbstractEventExaminer<?>[0]));
+  }
+
+  private TeeExaminer(final AbstractEventExaminer<?>[] examiners) {
+    this.examiners = examiners;
+  }
+
+  @Override
+  protected @NotNull Results result() {
+    final Object[] results = new Object[this.examiners.length];
+    for (int i = 0; i < results.length; i++) {
+      results[i] = this.examiners[i].result();
+    }
+    return new Results(this.examiners, results);
+  }
+
+  @Override
+  protected void beginExaminable(final @NotNull String name) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.beginExaminable(name);
+    }
+  }
+
+  @Override
+  protected void property(final @NotNull String name) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.property(name);
+    }
+  }
+
+  @Override
+  protected void endExaminable() {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.endExaminable();
+    }
+  }
+
+  @Override
+  protected void beginCollection(final int size) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.beginCollection(size);
+    }
+  }
+
+  @Override
+  protected void endCollection() {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.endCollection();
+    }
+  }
+
+  @Override
+  protected void beginArray(final int length) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.beginArray(length);
+    }
+  }
+
+  @Override
+  protected void endArray() {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.endArray();
+    }
+  }
+
+  @Override
+  protected void beginMap(final int size) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.beginMap(size);
+    }
+  }
+
+  @Override
+  protected void endMap() {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.endMap();
+    }
+  }
+
+  @Override
+  protected void nil() {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.nil();
+    }
+  }
+
+  @Override
+  protected void scalar(final @NotNull Object value) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.scalar(value);
+    }
+  }
+
+  @Override
+  protected void value(final @NotNull String value) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.value(value);
+    }
+  }
+
+  @Override
+  protected void value(final boolean value) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.value(value);
+    }
+  }
+
+  @Override
+  protected void value(final byte value) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.value(value);
+    }
+  }
+
+  @Override
+  protected void value(final char value) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.value(value);
+    }
+  }
+
+  @Override
+  protected void value(final double value) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.value(value);
+    }
+  }
+
+  @Override
+  protected void value(final float value) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.value(value);
+    }
+  }
+
+  @Override
+  protected void value(final int value) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.value(value);
+    }
+  }
+
+  @Override
+  protected void value(final long value) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.value(value);
+    }
+  }
+
+  @Override
+  protected void value(final short value) {
+    for (final AbstractEventExaminer<?> examiner : this.examiners) {
+      examiner.value(value);
+    }
+  }
+
+  /**
+   * The results of each examiner, from one examination.
+   *
+   * @since 1.4.0
+   */
+  public static final class Results {
+    private final AbstractEventExaminer<?>[] examiners;
+    private final Object[] results;
+
+    Results(final AbstractEventExaminer<?>[] examiners, final Object[] results) {
+      this.examiners = examiners;
+      this.results = results;
+    }
+
+    /**
+     * Gets the result of an examiner.
+     *
+     * @param examiner the examiner
+     * @param <R> the result type
+     * @return the result
+     * @throws IllegalArgumentException if {@code examiner} is not one of the examiners of the tee
+     * @since 1.4.0
+     */
+    @SuppressWarnings("unchecked")
+    public <R> @NotNull R result(final @NotNull AbstractEventExaminer<R> examiner) {
+      for (int i = 0; i < this.examiners.length; i++) {
+        if (this.examiners[i] == examiner) return (R) this.results[i];
+      }
+      throw new IllegalArgumentException("Not examined by " + examiner);
+    }
+
+    /**
+     * Gets the result of the examiner at {@code index}, in the order the examiners were given.
+     *
+     * @param index the index
+     * @return the result
+     * @throws IndexOutOfBoundsException if there is no examiner at {@code index}
+     * @since 1.4.0
+     */
+    public @NotNull Object result(final int index) {
+      return this.results[index];
+    }
+
+    /**
+     * Gets the number of results.
+     *
+     * @return the number of results
+     * @since 1.4.0
+     */
+    public int size() {
+      return this.results.length;
+    }
+  }
+}
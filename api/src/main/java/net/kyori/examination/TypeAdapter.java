@@ -0,0 +1,106 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Describes how values of a type which is not otherwise understood by examiners are examined.
+ *
+ * <p>Without an adapter, such a value is examined as a scalar, by its {@code toString()}.</p>
+ *
+ * @param <T> the type
+ * @see TypeAdapters
+ * @since 1.4.0
+ */
+public abstract class TypeAdapter<T> {
+  private TypeAdapter() {
+  }
+
+  /**
+   * Creates an adapter which examines values as scalars, written by {@code writer}.
+   *
+   * @param writer the writer
+   * @param <T> the type
+   * @return a type adapter
+   * @since 1.4.0
+   */
+  public static <T> @NotNull TypeAdapter<T> scalar(final @NotNull Writer<? super T> writer) {
+    return new TypeAdapter<T>() {
+      @Override
+      <R> @NotNull R examine(final @NotNull AbstractExaminer<R> examiner, final @NotNull T value) {
+        return examiner.scalar(value, writer);
+      }
+    };
+  }
+
+  /**
+   * Creates an adapter which examines values as the examinable provided by {@code examinable}.
+   *
+   * @param examinable the examinable provider
+   * @param <T> the type
+   * @return a type adapter
+   * @since 1.4.0
+   */
+  public static <T> @NotNull TypeAdapter<T> structured(final @NotNull Function<? super T, ? extends Examinable> examinable) {
+    return new TypeAdapter<T>() {
+      @Override
+      <R> @NotNull R examine(final @NotNull AbstractExaminer<R> examiner, final @NotNull T value) {
+        return examiner.examine(examinable.apply(value));
+      }
+
+      @Override
+      @NotNull Examinable examinable(final @NotNull T value) {
+        return examinable.apply(value);
+      }
+    };
+  }
+
+  abstract <R> @NotNull R examine(final @NotNull AbstractExaminer<R> examiner, final @NotNull T value);
+
+  // the examinable a value is examined as, if it is examined as one
+  @Nullable Examinable examinable(final @NotNull T value) {
+    return null;
+  }
+
+  /**
+   * Writes a value as text.
+   *
+   * @param <T> the type
+   * @since 1.4.0
+   */
+  @FunctionalInterface
+  public interface Writer<T> {
+    /**
+     * Writes {@code value} to {@code builder}.
+     *
+     * @param value the value
+     * @param builder the builder
+     * @since 1.4.0
+     */
+    void write(final @NotNull T value, final @NotNull StringBuilder builder);
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The registry of {@link TypeAdapter}s.
+ *
+ * <p>Values which examiners do not otherwise understand - which would be examined as scalars - are examined
+ * using the adapter registered for the most specific of their class and its superclasses, followed by
+ * their interfaces, if any.</p>
+ *
+ * <p>The registry is shared by every examiner in the JVM, and is empty until adapters are registered - so
+ * adapters should only be registered by the application, either for types it owns or by opting in to the
+ * adapters for common JDK types with {@link #registerDefaults()}. On Java 16 and above, records without a
+ * registered adapter are examined by their components. NIO buffers are examined by {@link AbstractExaminer}
+ * itself, unless an adapter is registered for them.</p>
+ *
+ * @since 1.4.0
+ */
+public final class TypeAdapters {
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+  private static final Map<Class<?>, TypeAdapter<?>> ADAPTERS = new ConcurrentHashMap<>();
+  // bumped on each change, so that adapters resolved before it are resolved again
+  private static final AtomicInteger GENERATION = new AtomicInteger();
+  private static final ClassValue<Resolved> RESOLVED = new ClassValue<Resolved>() {
+    @Override
+    protected Resolved computeValue(final Class<?> type) {
+      final int generation = GENERATION.get();
+      return new Resolved(generation, resolve(type));
+    }
+  };
+
+  private TypeAdapters() {
+  }
+
+  /**
+   * Registers an adapter for a type, and its subtypes, replacing any adapter already registered for it.
+   *
+   * @param type the type
+   * @param adapter the adapter
+   * @param <T> the type
+   * @since 1.4.0
+   */
+  public static <T> void register(final @NotNull Class<T> type, final @NotNull TypeAdapter<? super T> adapter) {
+    ADAPTERS.put(type, adapter);
+    GENERATION.incrementAndGet();
+  }
+
+  /**
+   * Unregisters the adapter for a type, if there is one.
+   *
+   * @param type the type
+   * @since 1.4.0
+   */
+  public static void unregister(final @NotNull Class<?> type) {
+    if (ADAPTERS.remove(type) != null) {
+      GENERATION.incrementAndGet();
+    }
+  }
+
+  /**
+   * Registers adapters for common JDK types, replacing any already registered for them.
+   *
+   * <ul>
+   *   <li>{@link UUID} and {@link Instant} values are examined as scalars, written as by their {@code toString()} -
+   *   straight into the result of examiners which write scalars directly, such as a {@code StringExaminer},
+   *   rather than through a string of their own</li>
+   *   <li>{@link Optional}, {@link OptionalDouble}, {@link OptionalInt} and {@link OptionalLong} values are examined
+   *   as examinables named after their type, with a {@code value} property when present</li>
+   * </ul>
+   *
+   * <p>These change how such values are examined by every examiner in the JVM, so they are only registered when
+   * the application asks for them - typically once, as it starts.</p>
+   *
+   * @since 1.4.0
+   */
+  public static void registerDefaults() {
+    register(UUID.class, TypeAdapter.scalar(TypeAdapters::uuid));
+    register(Instant.class, TypeAdapter.scalar(DateTimeFormatter.ISO_INSTANT::formatTo));
+    register(Optional.class, TypeAdapter.structured(optional -> optional("Optional", optional.isPresent() ? ExaminableProperty.of("value", optional.get()) : null)));
+    register(OptionalDouble.class, TypeAdapter.structured(optional -> optional("OptionalDouble", optional.isPresent() ? ExaminableProperty.of("value", optional.getAsDouble()) : null)));
+    register(OptionalInt.class, TypeAdapter.structured(optional -> optional("OptionalInt", optional.isPresent() ? ExaminableProperty.of("value", optional.getAsInt()) : null)));
+    register(OptionalLong.class, TypeAdapter.structured(optional -> optional("OptionalLong", optional.isPresent() ? ExaminableProperty.of("value", optional.getAsLong()) : null)));
+  }
+
+  @SuppressWarnings("unchecked")
+  static @Nullable TypeAdapter<Object> adapter(final @NotNull Class<?> type) {
+    Resolved resolved = RESOLVED.get(type);
+    if (resolved.generation != GENERATION.get()) {
+      RESOLVED.remove(type);
+      resolved = RESOLVED.get(type);
+    }
+    return (TypeAdapter<Object>) resolved.adapter;
+  }
+
+  // the examinable a value is examined as by its adapter, if it has one which examines it as one
+  static @Nullable Examinable examinable(final @NotNull Object value) {
+    final TypeAdapter<Object> adapter = adapter(value.getClass());
+    return adapter != null ? adapter.examinable(value) : null;
+  }
+
+  private static @Nullable TypeAdapter<?> resolve(final Class<?> type) {
+    for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+      final TypeAdapter<?> adapter = ADAPTERS.get(c);
+      if (adapter != null) return adapter;
+    }
+    final TypeAdapter<?> record = Records.adapter(type);
+    if (record != null) return record;
+    // breadth-first, so that nearer interfaces win
+    final Set<Class<?>> seen = new HashSet<>();
+    final Deque<Class<?>> queue = new ArrayDeque<>();
+    for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+      Collections.addAll(queue, c.getInterfaces());
+    }
+    while (!queue.isEmpty()) {
+      final Class<?> c = queue.poll();
+      if (seen.add(c)) {
+        final TypeAdapter<?> adapter = ADAPTERS.get(c);
+        if (adapter != null) return adapter;
+        Collections.addAll(queue, c.getInterfaces());
+      }
+    }
+    return null;
+  }
+
+  // the two halves of a uuid written as hex, without a string for each
+  private static void uuid(final UUID uuid, final StringBuilder builder) {
+    final long msb = uuid.getMostSignificantBits();
+    final long lsb = uuid.getLeastSignificantBits();
+    hex(builder, msb >>> 32, 8);
+    builder.append('-');
+    hex(builder, msb >>> 16, 4);
+    builder.append('-');
+    hex(builder, msb, 4);
+    builder.append('-');
+    hex(builder, lsb >>> 48, 4);
+    builder.append('-');
+    hex(builder, lsb, 12);
+  }
+
+  // writes the lowest digits of value
+  private static void hex(final StringBuilder builder, final long value, final int digits) {
+    for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+      builder.append(HEX[(int) (value >>> shift) & 0xf]);
+    }
+  }
+
+  private static Examinable optional(final String name, final @Nullable ExaminableProperty value) {
+    return new Examinable() {
+      @Override
+      public @NotNull String examinableName() {
+        return name;
+      }
+
+      @Override
+      public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+        return value != null ? Stream.of(value) : Stream.empty();
+      }
+    };
+  }
+
+  private static final class Resolved {
+    final int generation;
+    final @Nullable TypeAdapter<?> adapter;
+
+    Resolved(final int generation, final @Nullable TypeAdapter<?> adapter) {
+      this.generation = generation;
+      this.adapter = adapter;
+    }
+  }
+}
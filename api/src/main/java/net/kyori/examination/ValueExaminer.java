@@ -0,0 +1,149 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * "Examines" a value by returning it as it is - boxed, if it is primitive - for when the value of a property is
+ * needed rather than a result.
+ */
+final class ValueExaminer implements Examiner<Object> {
+  static final ValueExaminer INSTANCE = new ValueExaminer();
+
+  private ValueExaminer() {
+  }
+
+  @Override
+  public @NotNull Object examine(final @NotNull Examinable examinable) {
+    return examinable;
+  }
+
+  @Override
+  public @NotNull Object examine(final @NotNull String name, final @NotNull Stream<? extends ExaminableProperty> properties) {
+    return new Examinable() {
+      @Override
+      public @NotNull String examinableName() {
+        return name;
+      }
+
+      @Override
+      public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+        return properties;
+      }
+    };
+  }
+
+  @Override
+  public @Nullable Object examine(final @Nullable Object value) {
+    return value;
+  }
+
+  @Override
+  public @NotNull Object examine(final boolean value) {
+    return value;
+  }
+
+  @Override
+  public @Nullable Object examine(final boolean@Nullable[] values) {
+    return values;
+  }
+
+  @Override
+  public @NotNull Object examine(final byte value) {
+    return value;
+  }
+
+  @Override
+  public @Nullable Object examine(final byte@Nullable[] values) {
+    return values;
+  }
+
+  @Override
+  public @NotNull Object examine(final char value) {
+    return value;
+  }
+
+  @Override
+  public @Nullable Object examine(final char@Nullable[] values) {
+    return values;
+  }
+
+  @Override
+  public @NotNull Object examine(final double value) {
+    return value;
+  }
+
+  @Override
+  public @Nullable Object examine(final double@Nullable[] values) {
+    return values;
+  }
+
+  @Override
+  public @NotNull Object examine(final float value) {
+    return value;
+  }
+
+  @Override
+  public @Nullable Object examine(final float@Nullable[] values) {
+    return values;
+  }
+
+  @Override
+  public @NotNull Object examine(final int value) {
+    return value;
+  }
+
+  @Override
+  public @Nullable Object examine(final int@Nullable[] values) {
+    return values;
+  }
+
+  @Override
+  public @NotNull Object examine(final long value) {
+    return value;
+  }
+
+  @Override
+  public @Nullable Object examine(final long@Nullable[] values) {
+    return values;
+  }
+
+  @Override
+  public @NotNull Object examine(final short value) {
+    return value;
+  }
+
+  @Override
+  public @Nullable Object examine(final short@Nullable[] values) {
+    return values;
+  }
+
+  @Override
+  public @Nullable Object examine(final @Nullable String value) {
+    return value;
+  }
+}
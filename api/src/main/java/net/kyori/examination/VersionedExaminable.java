@@ -0,0 +1,46 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+/**
+ * Something that can be examined, and that tracks changes to its examinable state.
+ *
+ * <p>Examiners such as {@link CachingExaminer} may reuse a previous examination result for as long
+ * as the version remains the same.</p>
+ *
+ * @since 1.4.0
+ */
+public interface VersionedExaminable extends Examinable {
+  /**
+   * Gets the examinable version.
+   *
+   * <p>The version must change whenever the examination result could change - including when a
+   * nested value changes. A common approach is a modification count that is bumped on every change,
+   * with parents folding in the versions of their children.</p>
+   *
+   * @return the examinable version
+   * @since 1.4.0
+   */
+  long examinableVersion();
+}
@@ -0,0 +1,207 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * Records are examined by their components, read through accessors resolved once per record class.
+ *
+ * Primitive components are read and visited without boxing.
+ */
+final class Records {
+  private static final int BOOLEAN = 0;
+  private static final int BYTE = 1;
+  private static final int CHAR = 2;
+  private static final int DOUBLE = 3;
+  private static final int FLOAT = 4;
+  private static final int INT = 5;
+  private static final int LONG = 6;
+  private static final int SHORT = 7;
+  private static final int OBJECT = 8;
+
+  private Records() {
+  }
+
+  static @Nullable TypeAdapter<Object> adapter(final @NotNull Class<?> type) {
+    if (!type.isRecord()) return null;
+    final RecordComponent[] components = type.getRecordComponents();
+    final Component[] resolved = new Component[components.length];
+    for (int i = 0; i < components.length; i++) {
+      final MethodHandle accessor = accessor(components[i].getAccessor());
+      // an accessor we cannot reach - examine the record by its toString() instead
+      if (accessor == null) return null;
+      resolved[i] = new Component(components[i].getName(), components[i].getType(), accessor);
+    }
+    final String name = type.getSimpleName();
+    return TypeAdapter.structured(record -> new RecordExaminable(name, resolved, record));
+  }
+
+  private static @Nullable MethodHandle accessor(final Method accessor) {
+    try {
+      return MethodHandles.publicLookup().unreflect(accessor);
+    } catch (final IllegalAccessException e) {
+      try {
+        accessor.setAccessible(true);
+        return MethodHandles.lookup().unreflect(accessor);
+      } catch (final IllegalAccessException | RuntimeException e2) {
+        return null;
+      }
+    }
+  }
+
+  private static final class Component {
+    final String name;
+    final int kind;
+    // (Object) -> the component type, or Object if it is not primitive
+    final MethodHandle accessor;
+
+    Component(final String name, final Class<?> type, final MethodHandle accessor) {
+      this.name = name;
+      this.kind = kind(type);
+      this.accessor = accessor.asType(MethodType.methodType(type.isPrimitive() ? type : Object.class, Object.class));
+    }
+
+    private static int kind(final Class<?> type) {
+      if (type == boolean.class) {
+        return BOOLEAN;
+      } else if (type == byte.class) {
+        return BYTE;
+      } else if (type == char.class) {
+        return CHAR;
+      } else if (type == double.class) {
+        return DOUBLE;
+      } else if (type == float.class) {
+        return FLOAT;
+      } else if (type == int.class) {
+        return INT;
+      } else if (type == long.class) {
+        return LONG;
+      } else if (type == short.class) {
+        return SHORT;
+      }
+      return OBJECT;
+    }
+  }
+
+  private static final class RecordExaminable implements Examinable {
+    private final String name;
+    private final Component[] components;
+    private final Object record;
+
+    RecordExaminable(final String name, final Component[] components, final Object record) {
+      this.name = name;
+      this.components = components;
+      this.record = record;
+    }
+
+    @Override
+    public @NotNull String examinableName() {
+      return this.name;
+    }
+
+    @Override
+    public void examineProperties(final @NotNull PropertyVisitor visitor) {
+      try {
+        for (final Component component : this.components) {
+          switch (component.kind) {
+            case BOOLEAN:
+              visitor.visit(component.name, (boolean) component.accessor.invokeExact(this.record));
+              break;
+            case BYTE:
+              visitor.visit(component.name, (byte) component.accessor.invokeExact(this.record));
+              break;
+            case CHAR:
+              visitor.visit(component.name, (char) component.accessor.invokeExact(this.record));
+              break;
+            case DOUBLE:
+              visitor.visit(component.name, (double) component.accessor.invokeExact(this.record));
+              break;
+            case FLOAT:
+              visitor.visit(component.name, (float) component.accessor.invokeExact(this.record));
+              break;
+            case INT:
+              visitor.visit(component.name, (int) component.accessor.invokeExact(this.record));
+              break;
+            case LONG:
+              visitor.visit(component.name, (long) component.accessor.invokeExact(this.record));
+              break;
+            case SHORT:
+              visitor.visit(component.name, (short) component.accessor.invokeExact(this.record));
+              break;
+            default:
+              visitor.visit(component.name, (Object) component.accessor.invokeExact(this.record));
+              break;
+          }
+        }
+      } catch (final RuntimeException | Error e) {
+        throw e;
+      } catch (final Throwable t) {
+        throw new IllegalStateException("Could not read a component of " + this.record.getClass().getName(), t);
+      }
+    }
+
+    @Override
+    public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Arrays.stream(this.components).map(component -> property(component, this.record));
+    }
+
+    private static ExaminableProperty property(final Component component, final Object record) {
+      try {
+        switch (component.kind) {
+          case BOOLEAN:
+            return ExaminableProperty.of(component.name, (boolean) component.accessor.invokeExact(record));
+          case BYTE:
+            return ExaminableProperty.of(component.name, (byte) component.accessor.invokeExact(record));
+          case CHAR:
+            return ExaminableProperty.of(component.name, (char) component.accessor.invokeExact(record));
+          case DOUBLE:
+            return ExaminableProperty.of(component.name, (double) component.accessor.invokeExact(record));
+          case FLOAT:
+            return ExaminableProperty.of(component.name, (float) component.accessor.invokeExact(record));
+          case INT:
+            return ExaminableProperty.of(component.name, (int) component.accessor.invokeExact(record));
+          case LONG:
+            return ExaminableProperty.of(component.name, (long) component.accessor.invokeExact(record));
+          case SHORT:
+            return ExaminableProperty.of(component.name, (short) component.accessor.invokeExact(record));
+          default:
+            return ExaminableProperty.of(component.name, (Object) component.accessor.invokeExact(record));
+        }
+      } catch (final RuntimeException | Error e) {
+        throw e;
+      } catch (final Throwable t) {
+        throw new IllegalStateException("Could not read a component of " + record.getClass().getName(), t);
+      }
+    }
+  }
+}
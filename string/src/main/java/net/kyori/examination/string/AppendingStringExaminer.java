@@ -0,0 +1,259 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.function.Function;
+import net.kyori.examination.AbstractEventExaminer;
+import net.kyori.examination.Examiner;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link Examiner} that appends the same output as a {@link StringExaminer} to an {@link Appendable}, as it is produced.
+ *
+ * <p>Nothing is held on to other than the position within the examined graph, so large examinations can be
+ * written out - to a {@link ByteChannelWriter}, for example - without first being built up as a string.</p>
+ *
+ * <p>Any {@link IOException} thrown by the appendable is rethrown as an {@link UncheckedIOException}.</p>
+ *
+ * @param <A> the appendable type
+ * @since 1.4.0
+ */
+public class AppendingStringExaminer<A extends Appendable> extends AbstractEventExaminer<A> {
+  private static final byte SEQUENCE = 0;
+  private static final byte MAP = 1;
+  private static final byte EXAMINABLE = 2;
+  private final A appendable;
+  private final Function<String, String> escaper;
+  private byte[] kinds = new byte[8];
+  private int[] counts = new int[8];
+  private int depth;
+
+  /**
+   * Gets an examiner that escapes simply, appending to {@code appendable}.
+   *
+   * @param appendable the appendable
+   * @param <A> the appendable type
+   * @return an examiner
+   * @since 1.4.0
+   */
+  public static <A extends Appendable> @NotNull AppendingStringExaminer<A> simpleEscaping(final @NotNull A appendable) {
+    return new AppendingStringExaminer<>(appendable, Strings::escape);
+  }
+
+  /**
+   * Constructs.
+   *
+   * @param appendable the appendable
+   * @param escaper the string escaper
+   * @since 1.4.0
+   */
+  public AppendingStringExaminer(final @NotNull A appendable, final @NotNull Function<String, String> escaper) {
+    this.appendable = appendable;
+    this.escaper = escaper;
+  }
+
+  @Override
+  protected @NotNull A result() {
+    return this.appendable;
+  }
+
+  @Override
+  protected void beginExaminable(final @NotNull String name) {
+    this.child();
+    this.append(name);
+    this.begin(EXAMINABLE, '{');
+  }
+
+  @Override
+  protected void property(final @NotNull String name) {
+    if (this.counts[this.depth - 1]++ > 0) {
+      this.append(", ");
+    }
+    this.append(name);
+    this.append('=');
+  }
+
+  @Override
+  protected void endExaminable() {
+    this.end('}');
+  }
+
+  @Override
+  protected void beginCollection(final int size) {
+    this.child();
+    this.begin(SEQUENCE, '[');
+  }
+
+  @Override
+  protected void endCollection() {
+    this.end(']');
+  }
+
+  @Override
+  protected void beginArray(final int length) {
+    this.child();
+    this.begin(SEQUENCE, '[');
+  }
+
+  @Override
+  protected void endArray() {
+    this.end(']');
+  }
+
+  @Override
+  protected void beginMap(final int size) {
+    this.child();
+    this.begin(MAP, '{');
+  }
+
+  @Override
+  protected void endMap() {
+    this.end('}');
+  }
+
+  @Override
+  protected void nil() {
+    this.child();
+    this.append("null");
+  }
+
+  @Override
+  protected void scalar(final @NotNull Object value) {
+    this.child();
+    this.append(String.valueOf(value));
+  }
+
+  @Override
+  protected void value(final @NotNull String value) {
+    this.child();
+    this.append('"');
+    this.append(this.escaper.apply(value));
+    this.append('"');
+  }
+
+  @Override
+  protected void value(final boolean value) {
+    this.child();
+    this.append(String.valueOf(value));
+  }
+
+  @Override
+  protected void value(final byte value) {
+    this.child();
+    this.append(String.valueOf(value));
+  }
+
+  @Override
+  protected void value(final char value) {
+    this.child();
+    this.append('\'');
+    this.append(this.escaper.apply(String.valueOf(value)));
+    this.append('\'');
+  }
+
+  @Override
+  protected void value(final double value) {
+    this.child();
+    this.append(String.valueOf(value));
+    this.append('d');
+  }
+
+  @Override
+  protected void value(final float value) {
+    this.child();
+    this.append(String.valueOf(value));
+    this.append('f');
+  }
+
+  @Override
+  protected void value(final int value) {
+    this.child();
+    this.append(String.valueOf(value));
+  }
+
+  @Override
+  protected void value(final long value) {
+    this.child();
+    this.append(String.valueOf(value));
+  }
+
+  @Override
+  protected void value(final short value) {
+    this.child();
+    this.append(String.valueOf(value));
+  }
+
+  // writes whatever separates this value from the one before it
+  private void child() {
+    if (this.depth == 0) return;
+    final int index = this.counts[this.depth - 1]++;
+    if (index == 0) return;
+    switch (this.kinds[this.depth - 1]) {
+      case SEQUENCE:
+        this.append(", ");
+        break;
+      case MAP:
+        this.append((index & 1) == 0 ? ", " : "=");
+        break;
+      default:
+        // examinable properties are separated when their name is written
+        break;
+    }
+  }
+
+  private void begin(final byte kind, final char open) {
+    if (this.depth == this.kinds.length) {
+      this.kinds = Arrays.copyOf(this.kinds, this.depth * 2);
+      this.counts = Arrays.copyOf(this.counts, this.depth * 2);
+    }
+    this.kinds[this.depth] = kind;
+    this.counts[this.depth] = 0;
+    this.depth++;
+    this.append(open);
+  }
+
+  private void end(final char close) {
+    this.depth--;
+    this.append(close);
+  }
+
+  private void append(final char c) {
+    try {
+      this.appendable.append(c);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void append(final String string) {
+    try {
+      this.appendable.append(string);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import net.kyori.examination.ExaminationContext;
+import net.kyori.examination.Examiner;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Examines many values at once, appending each result in turn to an {@link Appendable}.
+ *
+ * <p>Values are examined by an examiner which appends to the output as it goes, such as an
+ * {@link AppendingStringExaminer} - so no string is built up for each value. Examiners are created for each
+ * output from a function such as {@code AppendingStringExaminer::simpleEscaping}.</p>
+ *
+ * @since 1.4.0
+ */
+public final class BulkExamination {
+  private static final String DEFAULT_SEPARATOR = "\n";
+  // the fewest values worth rendering on another thread
+  private static final int MIN_CHUNK = 64;
+
+  private BulkExamination() {
+  }
+
+  /**
+   * Examines {@code values}, appending each result to {@code output}, one per line.
+   *
+   * @param values the values
+   * @param examiners a function creating an examiner which appends to the given appendable
+   * @param output the output
+   * @param <A> the output type
+   * @return the output
+   * @throws UncheckedIOException if {@code output} throws an {@link IOException}
+   * @since 1.4.0
+   */
+  public static <A extends Appendable> @NotNull A examineAll(final @NotNull Collection<?> values, final @NotNull Function<? super Appendable, ? extends Examiner<?>> examiners, final @NotNull A output) {
+    return examineAll(values, examiners, output, DEFAULT_SEPARATOR);
+  }
+
+  /**
+   * Examines {@code values}, appending each result to {@code output}, with {@code separator} between them.
+   *
+   * <p>A single examiner is created, appending to {@code output}.</p>
+   *
+   * @param values the values
+   * @param examiners a function creating an examiner which appends to the given appendable
+   * @param output the output
+   * @param separator the separator
+   * @param <A> the output type
+   * @return the output
+   * @throws UncheckedIOException if {@code output} throws an {@link IOException}
+   * @since 1.4.0
+   */
+  public static <A extends Appendable> @NotNull A examineAll(final @NotNull Collection<?> values, final @NotNull Function<? super Appendable, ? extends Examiner<?>> examiners, final @NotNull A output, final @NotNull CharSequence separator) {
+    final Examiner<?> examiner = examiners.apply(output);
+    boolean first = true;
+    for (final Object value : values) {
+      if (!first) {
+        append(output, separator);
+      }
+      examiner.examine(value);
+      first = false;
+    }
+    return output;
+  }
+
+  /**
+   * Examines {@code values} in parallel on {@code pool}, appending each result to {@code output} in the
+   * iteration order of {@code values}, with {@code separator} between them.
+   *
+   * <p>Values are examined in chunks. Each chunk has one buffer, and one examiner appending to it, which are reused
+   * for every value in the chunk. Buffers are appended to {@code output} in order, on the calling thread.
+   * {@code examiners} may be called from several threads at once.</p>
+   *
+   * <p>Any {@link net.kyori.examination.CancellationToken} or {@link net.kyori.examination.Projection} applying
+   * on the calling thread applies to each chunk. When {@link net.kyori.examination.References} apply, the values
+   * are examined one after another on the calling thread instead, so that ids are given in order.</p>
+   *
+   * @param values the values
+   * @param examiners a function creating an examiner which appends to the given appendable
+   * @param output the output
+   * @param separator the separator
+   * @param pool the pool to examine on
+   * @param <A> the output type
+   * @return the output
+   * @throws UncheckedIOException if {@code output} throws an {@link IOException}
+   * @since 1.4.0
+   */
+  public static <A extends Appendable> @NotNull A examineAll(final @NotNull Collection<?> values, final @NotNull Function<? super Appendable, ? extends Examiner<?>> examiners, final @NotNull A output, final @NotNull CharSequence separator, final @NotNull ForkJoinPool pool) {
+    final Object[] array = values.toArray();
+    final int chunk = Math.max(MIN_CHUNK, array.length / (pool.getParallelism() * 4));
+    final ExaminationContext context = ExaminationContext.capture();
+    if (array.length <= chunk || context.references()) {
+      return examineAll(values, examiners, output, separator);
+    }
+    final Chunk root = new Chunk(array, 0, array.length, chunk, examiners, separator.toString(), context);
+    pool.invoke(root).appendTo(output);
+    return output;
+  }
+
+  private static void append(final Appendable output, final CharSequence string) {
+    try {
+      output.append(string);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /*
+   * A range of values, examined into one buffer - or split in two, and the buffers of each half chained together in order.
+   */
+  private static final class Chunk extends RecursiveTask<Chunk> {
+    private static final long serialVersionUID = 0L;
+    private final transient Object[] values;
+    private final int from;
+    private final int to;
+    private final int size;
+    private final transient Function<? super Appendable, ? extends Examiner<?>> examiners;
+    private final String separator;
+    private final transient ExaminationContext context;
+    private StringBuilder buffer;
+    private Chunk next;
+
+    Chunk(final Object[] values, final int from, final int to, final int size, final Function<? super Appendable, ? extends Examiner<?>> examiners, final String separator, final ExaminationContext context) {
+      this.values = values;
+      this.from = from;
+      this.to = to;
+      this.size = size;
+      this.examiners = examiners;
+      this.separator = separator;
+      this.context = context;
+    }
+
+    @Override
+    protected Chunk compute() {
+      if (this.to - this.from <= this.size) {
+        this.buffer = this.context.run(this::examine);
+        return this;
+      }
+      final int middle = (this.from + this.to) >>> 1;
+      final Chunk left = new Chunk(this.values, this.from, middle, this.size, this.examiners, this.separator, this.context);
+      final Chunk right = new Chunk(this.values, middle, this.to, this.size, this.examiners, this.separator, this.context);
+      right.fork();
+      final Chunk head = left.compute();
+      Chunk tail = head;
+      while (tail.next != null) {
+        tail = tail.next;
+      }
+      tail.next = right.join();
+      return head;
+    }
+
+    // every value in the chunk is appended to the same buffer, by the same examiner
+    private StringBuilder examine() {
+      final StringBuilder buffer = new StringBuilder();
+      final Examiner<?> examiner = this.examiners.apply(buffer);
+      for (int i = this.from; i < this.to; i++) {
+        if (i > 0) {
+          buffer.append(this.separator);
+        }
+        examiner.examine(this.values[i]);
+      }
+      return buffer;
+    }
+
+    void appendTo(final Appendable output) {
+      for (Chunk chunk = this; chunk != null; chunk = chunk.next) {
+        append(output, chunk.buffer);
+        // no longer needed
+        chunk.buffer = null;
+      }
+    }
+  }
+}
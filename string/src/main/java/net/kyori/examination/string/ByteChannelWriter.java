@@ -0,0 +1,204 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link Writer} which encodes characters as UTF-8 into a reusable direct buffer, writing it out
+ * to a {@link WritableByteChannel} each time it fills up.
+ *
+ * <p>Memory use is bounded by the size of the buffer, however much is written. As with
+ * {@link String#getBytes(java.nio.charset.Charset)}, unpaired surrogates are encoded as {@code '?'}.</p>
+ *
+ * <p>The channel is expected to be in blocking mode. This writer is not thread-safe.</p>
+ *
+ * @since 1.4.0
+ */
+public final class ByteChannelWriter extends Writer {
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+  // the most bytes a single code point encodes to
+  private static final int MAX_BYTES_PER_CHAR = 4;
+  private final WritableByteChannel channel;
+  private final ByteBuffer buffer;
+  private char highSurrogate;
+  private boolean closed;
+
+  /**
+   * Constructs, with a default buffer size.
+   *
+   * @param channel the channel to write to
+   * @since 1.4.0
+   */
+  public ByteChannelWriter(final @NotNull WritableByteChannel channel) {
+    this(channel, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Constructs.
+   *
+   * @param channel the channel to write to
+   * @param bufferSize the buffer size, in bytes
+   * @throws IllegalArgumentException if {@code bufferSize} is too small to hold any character
+   * @since 1.4.0
+   */
+  public ByteChannelWriter(final @NotNull WritableByteChannel channel, final int bufferSize) {
+    if (bufferSize < MAX_BYTES_PER_CHAR) throw new IllegalArgumentException("bufferSize must be at least " + MAX_BYTES_PER_CHAR + ", was " + bufferSize);
+    this.channel = channel;
+    this.buffer = ByteBuffer.allocateDirect(bufferSize);
+  }
+
+  @Override
+  public void write(final int c) throws IOException {
+    this.ensureOpen();
+    this.encode((char) c);
+  }
+
+  @Override
+  public void write(final char@NotNull[] chars, final int offset, final int length) throws IOException {
+    this.ensureOpen();
+    final int end = offset + length;
+    int i = offset;
+    while (i < end) {
+      // runs of ascii are copied straight into the buffer
+      final int limit = Math.min(end, i + this.buffer.remaining());
+      while (i < limit && chars[i] < 0x80 && this.highSurrogate == 0) {
+        this.buffer.put((byte) chars[i++]);
+      }
+      if (i < end) {
+        this.encode(chars[i++]);
+      }
+    }
+  }
+
+  @Override
+  public void write(final @NotNull String string, final int offset, final int length) throws IOException {
+    this.ensureOpen();
+    final int end = offset + length;
+    int i = offset;
+    while (i < end) {
+      // runs of ascii are copied straight into the buffer
+      final int limit = Math.min(end, i + this.buffer.remaining());
+      while (i < limit && string.charAt(i) < 0x80 && this.highSurrogate == 0) {
+        this.buffer.put((byte) string.charAt(i++));
+      }
+      if (i < end) {
+        this.encode(string.charAt(i++));
+      }
+    }
+  }
+
+  /**
+   * Writes any buffered bytes out to the channel.
+   *
+   * <p>A trailing high surrogate is kept back, as the low surrogate it pairs with may still be written.</p>
+   *
+   * @throws IOException if an I/O error occurs
+   * @since 1.4.0
+   */
+  @Override
+  public void flush() throws IOException {
+    this.ensureOpen();
+    this.drain();
+  }
+
+  /**
+   * Writes any buffered bytes out to the channel, and closes it.
+   *
+   * @throws IOException if an I/O error occurs
+   * @since 1.4.0
+   */
+  @Override
+  public void close() throws IOException {
+    if (this.closed) return;
+    try {
+      if (this.highSurrogate != 0) {
+        this.highSurrogate = 0;
+        this.put('?');
+      }
+      this.drain();
+    } finally {
+      this.closed = true;
+      this.channel.close();
+    }
+  }
+
+  private void encode(final char c) throws IOException {
+    if (this.buffer.remaining() < MAX_BYTES_PER_CHAR) {
+      this.drain();
+    }
+    if (this.highSurrogate != 0) {
+      final char high = this.highSurrogate;
+      this.highSurrogate = 0;
+      if (Character.isLowSurrogate(c)) {
+        final int codePoint = Character.toCodePoint(high, c);
+        this.buffer.put((byte) (0xf0 | (codePoint >> 18)));
+        this.buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+        this.buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+        this.buffer.put((byte) (0x80 | (codePoint & 0x3f)));
+        return;
+      }
+      this.buffer.put((byte) '?');
+      this.encode(c);
+      return;
+    }
+    if (c < 0x80) {
+      this.buffer.put((byte) c);
+    } else if (c < 0x800) {
+      this.buffer.put((byte) (0xc0 | (c >> 6)));
+      this.buffer.put((byte) (0x80 | (c & 0x3f)));
+    } else if (Character.isHighSurrogate(c)) {
+      this.highSurrogate = c;
+    } else if (Character.isLowSurrogate(c)) {
+      this.buffer.put((byte) '?');
+    } else {
+      this.buffer.put((byte) (0xe0 | (c >> 12)));
+      this.buffer.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+      this.buffer.put((byte) (0x80 | (c & 0x3f)));
+    }
+  }
+
+  private void put(final char c) throws IOException {
+    if (!this.buffer.hasRemaining()) {
+      this.drain();
+    }
+    this.buffer.put((byte) c);
+  }
+
+  private void drain() throws IOException {
+    this.buffer.flip();
+    while (this.buffer.hasRemaining()) {
+      this.channel.write(this.buffer);
+    }
+    this.buffer.clear();
+  }
+
+  private void ensureOpen() throws IOException {
+    if (this.closed) throw new IOException("Writer closed");
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import net.kyori.examination.AbstractExaminer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * Produces the same lines as MultiLineStringExaminer, but only as they are asked for - indenting,
+ * delimiting and aligning them with its key padding.
+ *
+ * Each container yields its lines by pulling on those of its children, looking no further ahead than
+ * needed to know whether a line ends an element (and so takes a comma) or whether a container is empty.
+ * Examinable and map keys are the exception - every line of a key is needed to align its value.
+ */
+final class LazyMultiLineExaminer extends AbstractExaminer<Iterator<String>> {
+  private final StringExaminer examiner;
+
+  LazyMultiLineExaminer(final @NotNull StringExaminer examiner) {
+    this.examiner = examiner;
+  }
+
+  @Override
+  protected <E> @NotNull Iterator<String> array(final E@NotNull[] array, final @NotNull Stream<Iterator<String>> elements) {
+    return new Enclosed("[", elements.iterator(), "]");
+  }
+
+  @Override
+  protected <E> @NotNull Iterator<String> collection(final @NotNull Collection<E> collection, final @NotNull Stream<Iterator<String>> elements) {
+    return new Enclosed("[", elements.iterator(), "]");
+  }
+
+  @Override
+  protected @NotNull Iterator<String> examinable(final @NotNull String name, final @NotNull Stream<Map.Entry<String, Iterator<String>>> properties) {
+    return new Enclosed(name + "{", properties.map(entry -> association(this.examine(entry.getKey()), entry.getValue())).iterator(), "}");
+  }
+
+  @Override
+  protected <K, V> @NotNull Iterator<String> map(final @NotNull Map<K, V> map, final @NotNull Stream<Map.Entry<Iterator<String>, Iterator<String>>> entries) {
+    return new Enclosed("{", entries.map(entry -> association(entry.getKey(), entry.getValue())).iterator(), "}");
+  }
+
+  @Override
+  protected @NotNull Iterator<String> nil() {
+    return Collections.singletonList(this.examiner.nil()).iterator();
+  }
+
+  @Override
+  protected @NotNull Iterator<String> scalar(final @NotNull Object value) {
+    return Collections.singletonList(this.examiner.scalar(value)).iterator();
+  }
+
+  @Override
+  public @NotNull Iterator<String> examine(final boolean value) {
+    return Collections.singletonList(this.examiner.examine(value)).iterator();
+  }
+
+  @Override
+  public @NotNull Iterator<String> examine(final byte value) {
+    return Collections.singletonList(this.examiner.examine(value)).iterator();
+  }
+
+  @Override
+  public @NotNull Iterator<String> examine(final char value) {
+    return Collections.singletonList(this.examiner.examine(value)).iterator();
+  }
+
+  @Override
+  public @NotNull Iterator<String> examine(final double value) {
+    return Collections.singletonList(this.examiner.examine(value)).iterator();
+  }
+
+  @Override
+  public @NotNull Iterator<String> examine(final float value) {
+    return Collections.singletonList(this.examiner.examine(value)).iterator();
+  }
+
+  @Override
+  public @NotNull Iterator<String> examine(final int value) {
+    return Collections.singletonList(this.examiner.examine(value)).iterator();
+  }
+
+  @Override
+  public @NotNull Iterator<String> examine(final long value) {
+    return Collections.singletonList(this.examiner.examine(value)).iterator();
+  }
+
+  @Override
+  public @NotNull Iterator<String> examine(final short value) {
+    return Collections.singletonList(this.examiner.examine(value)).iterator();
+  }
+
+  @Override
+  protected @NotNull Iterator<String> array(final int length, final @NotNull IntFunction<Iterator<String>> value) {
+    return new Enclosed("[", IntStream.range(0, length).mapToObj(value).iterator(), "]");
+  }
+
+  @Override
+  protected <T> @NotNull Iterator<String> stream(final @NotNull Stream<T> stream) {
+    return new Enclosed("[", stream.map(this::examine).iterator(), "]");
+  }
+
+  @Override
+  protected @NotNull Iterator<String> stream(final @NotNull DoubleStream stream) {
+    return new Enclosed("[", stream.mapToObj(this::examine).iterator(), "]");
+  }
+
+  @Override
+  protected @NotNull Iterator<String> stream(final @NotNull IntStream stream) {
+    return new Enclosed("[", stream.mapToObj(this::examine).iterator(), "]");
+  }
+
+  @Override
+  protected @NotNull Iterator<String> stream(final @NotNull LongStream stream) {
+    return new Enclosed("[", stream.mapToObj(this::examine).iterator(), "]");
+  }
+
+  @Override
+  public @NotNull Iterator<String> examine(final @Nullable String value) {
+    return Collections.singletonList(this.examiner.examine(value)).iterator();
+  }
+
+  private static Iterator<String> association(final Iterator<String> key, final Iterator<String> value) {
+    final List<String> lines = new ArrayList<>();
+    key.forEachRemaining(lines::add);
+    return new Association(new MultiLineStringExaminer.Key(lines), value);
+  }
+
+  /*
+   * Lines of each element - all but the last followed by a comma - indented between an opening and closing line.
+   */
+  private static final class Enclosed implements Iterator<String> {
+    private static final int OPEN = 0;
+    private static final int BODY = 1;
+    private static final int CLOSE = 2;
+    private static final int DONE = 3;
+    private final String open;
+    private final Iterator<Iterator<String>> elements;
+    private final String close;
+    private @Nullable Iterator<String> element;
+    private int state = OPEN;
+
+    Enclosed(final String open, final Iterator<Iterator<String>> elements, final String close) {
+      this.open = open;
+      this.elements = elements;
+      this.close = close;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.state != DONE;
+    }
+
+    @Override
+    public String next() {
+      switch (this.state) {
+        case OPEN:
+          if (this.advance()) {
+            this.state = BODY;
+            return this.open;
+          }
+          this.state = DONE;
+          return this.open + this.close;
+        case BODY: {
+          final String line = MultiLineStringExaminer.indent(this.element.next());
+          if (this.element.hasNext()) return line;
+          if (this.advance()) return line + MultiLineStringExaminer.DELIMITER;
+          this.state = CLOSE;
+          return line;
+        }
+        case CLOSE:
+          this.state = DONE;
+          return this.close;
+        default:
+          throw new NoSuchElementException();
+      }
+    }
+
+    // moves on to the next element with any lines
+    private boolean advance() {
+      while (this.elements.hasNext()) {
+        final Iterator<String> element = this.elements.next();
+        if (element.hasNext()) {
+          this.element = element;
+          return true;
+        }
+      }
+      this.element = null;
+      return false;
+    }
+  }
+
+  /*
+   * The lines of a value alongside those of its key.
+   */
+  private static final class Association implements Iterator<String> {
+    private final MultiLineStringExaminer.Key key;
+    private final Iterator<String> value;
+    private int index;
+
+    Association(final MultiLineStringExaminer.Key key, final Iterator<String> value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.index < this.key.height() || this.value.hasNext();
+    }
+
+    @Override
+    public String next() {
+      if (!this.hasNext()) throw new NoSuchElementException();
+      return this.key.line(this.index++, this.value.hasNext() ? this.value.next() : "");
+    }
+  }
+}
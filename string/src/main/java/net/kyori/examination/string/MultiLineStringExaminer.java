@@ -47,7 +47,10 @@ import org.jetbrains.annotations.Nullable;
  * @since 1.2.0
  */
 public class MultiLineStringExaminer extends AbstractExaminer<Stream<String>> {
-  private static final String INDENT_2 = "  ";
+  // the indent of each line within a container
+  static final String INDENT = "    ";
+  // ends every line of a container's children but the last
+  static final String DELIMITER = ",";
   private final StringExaminer examiner;
 
   /**
@@ -70,6 +73,10 @@ public class MultiLineStringExaminer extends AbstractExaminer<Stream<String>> {
     this.examiner = examiner;
   }
 
+  @NotNull StringExaminer examiner() {
+    return this.examiner;
+  }
+
   @Override
   protected <E> @NotNull Stream<String> array(final E@NotNull[] array, final @NotNull Stream<Stream<String>> elements) {
     return this.arrayLike(elements);
@@ -82,16 +89,12 @@ public class MultiLineStringExaminer extends AbstractExaminer<Stream<String>> {
 
   @Override
   protected @NotNull Stream<String> examinable(final @NotNull String name, final @NotNull Stream<Map.Entry<String, Stream<String>>> properties) {
-    final Stream<String> flattened = flatten(",", properties.map(entry -> association(this.examine(entry.getKey()), " = ", entry.getValue())));
-    final Stream<String> indented = indent(flattened);
-    return enclose(indented, name + "{", "}");
+    return enclose(flatten(properties.map(entry -> association(this.examine(entry.getKey()), entry.getValue()))), name + "{", "}");
   }
 
   @Override
   protected <K, V> @NotNull Stream<String> map(final @NotNull Map<K, V> map, final @NotNull Stream<Map.Entry<Stream<String>, Stream<String>>> entries) {
-    final Stream<String> flattened = flatten(",", entries.map(entry -> association(entry.getKey(), " = ", entry.getValue())));
-    final Stream<String> indented = indent(flattened);
-    return enclose(indented, "{", "}");
+    return enclose(flatten(entries.map(entry -> association(entry.getKey(), entry.getValue()))), "{", "}");
   }
 
   @Override
@@ -179,9 +182,7 @@ public class MultiLineStringExaminer extends AbstractExaminer<Stream<String>> {
   }
 
   private Stream<String> arrayLike(final Stream<Stream<String>> streams) {
-    final Stream<String> flattened = flatten(",", streams);
-    final Stream<String> indented = indent(flattened);
-    return enclose(indented, "[", "]");
+    return enclose(flatten(streams), "[", "]");
   }
 
   private static Stream<String> enclose(final Stream<String> lines, final String open, final String close) {
@@ -194,53 +195,64 @@ public class MultiLineStringExaminer extends AbstractExaminer<Stream<String>> {
     }
     return Stream.of(
       Stream.of(open),
-      indent(lines.stream()),
+      lines.stream().map(MultiLineStringExaminer::indent),
       Stream.of(close)
     ).reduce(Stream.empty(), Stream::concat);
   }
 
-  private static Stream<String> flatten(final String delimiter, final Stream<Stream<String>> bumpy) {
+  private static Stream<String> flatten(final Stream<Stream<String>> bumpy) {
     final List<String> flat = new ArrayList<>();
     bumpy.forEachOrdered(lines -> {
       if (!flat.isEmpty()) {
         final int last = flat.size() - 1;
-        flat.set(last, flat.get(last) + delimiter);
+        flat.set(last, flat.get(last) + DELIMITER);
       }
       lines.forEachOrdered(flat::add);
     });
     return flat.stream();
   }
 
-  private static Stream<String> association(final Stream<String> left, final String middle, final Stream<String> right) {
-    return association(
-      left.collect(Collectors.toList()),
-      middle,
-      right.collect(Collectors.toList())
-    );
-  }
-
-  private static Stream<String> association(final List<String> left, final String middle, final List<String> right) {
-    final int lefts = left.size();
-    final int rights = right.size();
-
-    final int height = Math.max(lefts, rights);
-    final int leftWidth = Strings.maxLength(left.stream());
-
-    final String leftPad = lefts < 2 ? "" : Strings.repeat(" ", leftWidth);
-    final String middlePad = lefts < 2 ? "" : Strings.repeat(" ", middle.length());
-
+  private static Stream<String> association(final Stream<String> left, final Stream<String> right) {
+    final Key key = new Key(left.collect(Collectors.toList()));
+    final List<String> rights = right.collect(Collectors.toList());
+    final int height = Math.max(key.height(), rights.size());
     final List<String> result = new ArrayList<>(height);
     for (int i = 0; i < height; i++) {
-      final String l = i < lefts ? Strings.padEnd(left.get(i), leftWidth, ' ') : leftPad;
-      final String m = i == 0 ? middle : middlePad;
-      final String r = i < rights ? right.get(i) : "";
-      result.add(l + m + r);
+      result.add(key.line(i, i < rights.size() ? rights.get(i) : ""));
     }
     return result.stream();
   }
 
-  private static Stream<String> indent(final Stream<String> lines) {
-    return lines.map(line -> INDENT_2 + line);
+  static String indent(final String line) {
+    return INDENT + line;
+  }
+
+  /*
+   * The lines of a key, padded to the same width so the lines of its value line up after them.
+   */
+  static final class Key {
+    private static final String MIDDLE = " = ";
+    private final List<String> lines;
+    private final int width;
+    private final String pad;
+    private final String middlePad;
+
+    Key(final List<String> lines) {
+      this.lines = lines;
+      this.width = Strings.maxLength(lines.stream());
+      this.pad = lines.size() < 2 ? "" : Strings.repeat(" ", this.width);
+      this.middlePad = lines.size() < 2 ? "" : Strings.repeat(" ", MIDDLE.length());
+    }
+
+    int height() {
+      return this.lines.size();
+    }
+
+    // the line at index, followed by that line of the value
+    String line(final int index, final String value) {
+      final String key = index < this.lines.size() ? Strings.padEnd(this.lines.get(index), this.width, ' ') : this.pad;
+      return key + (index == 0 ? MIDDLE : this.middlePad) + value;
+    }
   }
 
   private static final class Instances {
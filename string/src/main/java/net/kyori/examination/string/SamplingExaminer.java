@@ -0,0 +1,323 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.Examiner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An examiner which examines only a sample of values in full, summarising the rest.
+ *
+ * <p>A value which is not sampled is summarised without being examined: an examinable by its name and
+ * identity hash code, as in {@code Player@1b6d3586}, a collection or map by its size, an array or string
+ * by its length, and anything else by its type and identity hash code. Primitive values are always examined,
+ * as that costs no more than summarising them.</p>
+ *
+ * <p>Values are sampled either one in every {@code n}, or up to a number each second. Which, and how many, can be
+ * changed at any time, from any thread. Deciding whether to sample takes no locks.</p>
+ *
+ * @since 1.4.0
+ */
+public final class SamplingExaminer implements Examiner<String> {
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+  private final Examiner<String> examiner;
+  private final LongAdder sampled = new LongAdder();
+  private final LongAdder summarised = new LongAdder();
+  private volatile Sampler sampler;
+
+  /**
+   * Creates a sampling examiner which examines one in every {@code n} values in full.
+   *
+   * @param examiner the examiner for sampled values
+   * @param n how many values there are for each sampled
+   * @return a sampling examiner
+   * @throws IllegalArgumentException if {@code n} is not positive
+   * @since 1.4.0
+   */
+  public static @NotNull SamplingExaminer everyNth(final @NotNull Examiner<String> examiner, final int n) {
+    return new SamplingExaminer(examiner, new EveryNth(n));
+  }
+
+  /**
+   * Creates a sampling examiner which examines up to {@code limit} values in full each second.
+   *
+   * @param examiner the examiner for sampled values
+   * @param limit how many values may be sampled each second
+   * @return a sampling examiner
+   * @throws IllegalArgumentException if {@code limit} is not positive
+   * @since 1.4.0
+   */
+  public static @NotNull SamplingExaminer perSecond(final @NotNull Examiner<String> examiner, final int limit) {
+    return new SamplingExaminer(examiner, new PerSecond(limit));
+  }
+
+  private SamplingExaminer(final Examiner<String> examiner, final Sampler sampler) {
+    this.examiner = examiner;
+    this.sampler = sampler;
+  }
+
+  /**
+   * Examines one in every {@code n} values in full from now on.
+   *
+   * @param n how many values there are for each sampled
+   * @return this examiner
+   * @throws IllegalArgumentException if {@code n} is not positive
+   * @since 1.4.0
+   */
+  public @NotNull SamplingExaminer everyNth(final int n) {
+    this.sampler = new EveryNth(n);
+    return this;
+  }
+
+  /**
+   * Examines up to {@code limit} values in full each second from now on.
+   *
+   * @param limit how many values may be sampled each second
+   * @return this examiner
+   * @throws IllegalArgumentException if {@code limit} is not positive
+   * @since 1.4.0
+   */
+  public @NotNull SamplingExaminer perSecond(final int limit) {
+    this.sampler = new PerSecond(limit);
+    return this;
+  }
+
+  /**
+   * Gets how many values have been examined in full.
+   *
+   * @return the number of values sampled
+   * @since 1.4.0
+   */
+  public long sampled() {
+    return this.sampled.sum();
+  }
+
+  /**
+   * Gets how many values have been summarised.
+   *
+   * @return the number of values summarised
+   * @since 1.4.0
+   */
+  public long summarised() {
+    return this.summarised.sum();
+  }
+
+  private boolean sample() {
+    if (this.sampler.sample()) {
+      this.sampled.increment();
+      return true;
+    }
+    this.summarised.increment();
+    return false;
+  }
+
+  @Override
+  public @NotNull String examine(final @NotNull Examinable examinable) {
+    if (this.sample()) return this.examiner.examine(examinable);
+    return identity(examinable.examinableName(), examinable);
+  }
+
+  @Override
+  public @NotNull String examine(final @NotNull String name, final @NotNull Stream<? extends ExaminableProperty> properties) {
+    if (this.sample()) return this.examiner.examine(name, properties);
+    return name + "{...}";
+  }
+
+  @Override
+  public @NotNull String examine(final @Nullable Object value) {
+    if (value == null || value instanceof Boolean || value instanceof Character || value instanceof Number) {
+      return this.examiner.examine(value);
+    } else if (this.sample()) {
+      return this.examiner.examine(value);
+    } else if (value instanceof Examinable) {
+      return identity(((Examinable) value).examinableName(), value);
+    } else if (value instanceof String) {
+      return length((String) value);
+    } else if (value instanceof Collection<?>) {
+      return value.getClass().getSimpleName() + "(size=" + ((Collection<?>) value).size() + ')';
+    } else if (value instanceof Map<?, ?>) {
+      return value.getClass().getSimpleName() + "(size=" + ((Map<?, ?>) value).size() + ')';
+    } else if (value.getClass().isArray()) {
+      return value.getClass().getComponentType().getSimpleName() + '[' + Array.getLength(value) + ']';
+    }
+    return identity(value.getClass().getSimpleName(), value);
+  }
+
+  private static String identity(final String name, final Object value) {
+    return name + '@' + Integer.toHexString(System.identityHashCode(value));
+  }
+
+  private static String length(final String value) {
+    return "String(length=" + value.length() + ')';
+  }
+
+  @Override
+  public @NotNull String examine(final @Nullable String value) {
+    if (value == null || this.sample()) return this.examiner.examine(value);
+    return length(value);
+  }
+
+  @Override
+  public @NotNull String examine(final boolean value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull String examine(final boolean@Nullable[] values) {
+    if (values == null || this.sample()) return this.examiner.examine(values);
+    return "boolean[" + values.length + ']';
+  }
+
+  @Override
+  public @NotNull String examine(final byte value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull String examine(final byte@Nullable[] values) {
+    if (values == null || this.sample()) return this.examiner.examine(values);
+    return "byte[" + values.length + ']';
+  }
+
+  @Override
+  public @NotNull String examine(final char value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull String examine(final char@Nullable[] values) {
+    if (values == null || this.sample()) return this.examiner.examine(values);
+    return "char[" + values.length + ']';
+  }
+
+  @Override
+  public @NotNull String examine(final double value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull String examine(final double@Nullable[] values) {
+    if (values == null || this.sample()) return this.examiner.examine(values);
+    return "double[" + values.length + ']';
+  }
+
+  @Override
+  public @NotNull String examine(final float value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull String examine(final float@Nullable[] values) {
+    if (values == null || this.sample()) return this.examiner.examine(values);
+    return "float[" + values.length + ']';
+  }
+
+  @Override
+  public @NotNull String examine(final int value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull String examine(final int@Nullable[] values) {
+    if (values == null || this.sample()) return this.examiner.examine(values);
+    return "int[" + values.length + ']';
+  }
+
+  @Override
+  public @NotNull String examine(final long value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull String examine(final long@Nullable[] values) {
+    if (values == null || this.sample()) return this.examiner.examine(values);
+    return "long[" + values.length + ']';
+  }
+
+  @Override
+  public @NotNull String examine(final short value) {
+    return this.examiner.examine(value);
+  }
+
+  @Override
+  public @NotNull String examine(final short@Nullable[] values) {
+    if (values == null || this.sample()) return this.examiner.examine(values);
+    return "short[" + values.length + ']';
+  }
+
+  private interface Sampler {
+    boolean sample();
+  }
+
+  private static final class EveryNth implements Sampler {
+    private final int n;
+    private final AtomicLong count = new AtomicLong();
+
+    EveryNth(final int n) {
+      if (n <= 0) throw new IllegalArgumentException("n must be positive, was " + n);
+      this.n = n;
+    }
+
+    @Override
+    public boolean sample() {
+      return this.count.getAndIncrement() % this.n == 0;
+    }
+  }
+
+  /*
+   * A token bucket holding up to a second's worth of samples, kept as the time at which it would next be full -
+   * each sample pushes that time on by one interval, and is refused if that would be more than a second away.
+   */
+  private static final class PerSecond implements Sampler {
+    private final long interval;
+    private final AtomicLong full = new AtomicLong(System.nanoTime());
+
+    PerSecond(final int limit) {
+      if (limit <= 0) throw new IllegalArgumentException("limit must be positive, was " + limit);
+      this.interval = SECOND / limit;
+    }
+
+    @Override
+    public boolean sample() {
+      final long now = System.nanoTime();
+      while (true) {
+        final long full = this.full.get();
+        final long from = full - now < 0 ? now : full;
+        final long next = from + this.interval;
+        if (next - now > SECOND) return false;
+        if (this.full.compareAndSet(full, next)) return true;
+      }
+    }
+  }
+}
@@ -24,17 +24,22 @@
 package net.kyori.examination.string;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.IntFunction;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import net.kyori.examination.AbstractExaminer;
 import net.kyori.examination.Examiner;
+import net.kyori.examination.TypeAdapter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -44,17 +49,24 @@ import org.jetbrains.annotations.Nullable;
  * @since 1.0.0
  */
 public class StringExaminer extends AbstractExaminer<String> {
-  private static final Function<String, String> DEFAULT_ESCAPER = string -> string
-    .replace("\"", "\\\"")
-    .replace("\\", "\\\\")
-    .replace("\b", "\\b")
-    .replace("\f", "\\f")
-    .replace("\n", "\\n")
-    .replace("\r", "\\r")
-    .replace("\t", "\\t");
-  private static final Collector<CharSequence, ?, String> COMMA_CURLY = Collectors.joining(", ", "{", "}");
-  private static final Collector<CharSequence, ?, String> COMMA_SQUARE = Collectors.joining(", ", "[", "]");
+  private static final Function<String, String> DEFAULT_ESCAPER = Strings::escape;
+  // the length expected of each element of an array, collection or map before any have been examined, used to size the result before it is built
+  private static final int ELEMENT_LENGTH = 8;
+  // the length expected of the properties of an examinable with a name not yet examined
+  private static final int PROPERTIES_LENGTH = 48;
+  // the room left past the average length of an examinable, so one a little longer than average is not copied
+  private static final int EXAMINABLE_SLACK = 16;
+  // the most examinable names an average length is kept for
+  private static final int MAX_EXAMINABLE_LENGTHS = 1024;
+  // the length expected of a scalar written by a type adapter - long enough for a uuid
+  private static final int SCALAR_LENGTH = 36;
   private final Function<String, String> escaper;
+  // subclasses may examine elements, properties and scalars differently, so only write them straight into a result when we know how each is written
+  private final boolean writesDirectly = this.getClass() == StringExaminer.class;
+  // the moving average length of the result of examining an examinable, by examinable name - each kept eight times over, see average()
+  private final ConcurrentMap<String, AtomicInteger> examinableLengths = new ConcurrentHashMap<>();
+  // the moving average length of the result of examining an element, kept eight times over
+  private final AtomicInteger elementLength = new AtomicInteger(ELEMENT_LENGTH << 3);
 
   /**
    * Gets a string examiner that escapes simply.
@@ -76,24 +88,140 @@ public class StringExaminer extends AbstractExaminer<String> {
     this.escaper = escaper;
   }
 
+  @NotNull Function<String, String> escaper() {
+    return this.escaper;
+  }
+
+  /**
+   * Gets the average length of the result of examining an examinable, for each examinable name examined.
+   *
+   * <p>These are used to size each result before it is built, and are kept for up to 1024 names.</p>
+   *
+   * @return the average lengths, by examinable name
+   * @since 1.4.0
+   */
+  public @NotNull Map<String, Integer> examinableLengths() {
+    final Map<String, Integer> lengths = new TreeMap<>();
+    for (final Map.Entry<String, AtomicInteger> entry : this.examinableLengths.entrySet()) {
+      lengths.put(entry.getKey(), entry.getValue().get() >> 3);
+    }
+    return Collections.unmodifiableMap(lengths);
+  }
+
+  /**
+   * Gets the average length of the result of examining an element of an array, collection or map.
+   *
+   * <p>This is used to size each result before it is built.</p>
+   *
+   * @return the average length
+   * @since 1.4.0
+   */
+  public int elementLength() {
+    return this.elementLength.get() >> 3;
+  }
+
+  int capacity(final int size) {
+    // the brackets, and each element with a separator
+    return size < 0 ? 16 : 2 + size * ((this.elementLength.get() >> 3) + 2);
+  }
+
+  int capacity(final @NotNull String name) {
+    // room for the average examinable with the name, or a guess from the name until one has been examined
+    final AtomicInteger length = this.examinableLengths.get(unreferenced(name));
+    return length == null ? name.length() + PROPERTIES_LENGTH : (length.get() >> 3) + EXAMINABLE_SLACK;
+  }
+
+  private void examined(final int size, final StringBuilder sb) {
+    // less the brackets and separators - elements examined to nothing have neither, so this can fall below zero
+    if (size > 0) average(this.elementLength, Math.max(0, (sb.length() - 2 * size) / size));
+  }
+
+  private void examined(final String name, final StringBuilder sb) {
+    final String key = unreferenced(name);
+    final AtomicInteger length = this.examinableLengths.get(key);
+    if (length != null) {
+      average(length, sb.length());
+    } else if (this.examinableLengths.size() < MAX_EXAMINABLE_LENGTHS) {
+      this.examinableLengths.putIfAbsent(key, new AtomicInteger(sb.length() << 3));
+    }
+  }
+
+  // moves the average an eighth of the way to the length - it is kept eight times over so the steps are not rounded away
+  private static void average(final AtomicInteger average, final int length) {
+    int previous;
+    do {
+      previous = average.get();
+    } while (!average.compareAndSet(previous, previous - (previous >> 3) + length));
+  }
+
+  // the name without the id given to the examinable when examined with References, so each shares one average
+  private static String unreferenced(final String name) {
+    final int at = name.lastIndexOf('@');
+    if (at <= 0 || at == name.length() - 1) return name;
+    for (int i = at + 1; i < name.length(); i++) {
+      final char c = name.charAt(i);
+      if (c < '0' || c > '9') return name;
+    }
+    return name.substring(0, at);
+  }
+
+  private String join(final Stream<String> elements, final int size) {
+    final StringBuilder sb = new StringBuilder(this.capacity(size));
+    sb.append('[');
+    // an element may be examined to nothing, so whether one has been appended is kept separately
+    final boolean[] first = {true};
+    elements.forEachOrdered(element -> {
+      if (!first[0]) sb.append(", ");
+      first[0] = false;
+      sb.append(element);
+    });
+    sb.append(']');
+    this.examined(size, sb);
+    return sb.toString();
+  }
+
   @Override
   protected <E> @NotNull String array(final E@NotNull[] array, final @NotNull Stream<String> elements) {
-    return elements.collect(COMMA_SQUARE);
+    return this.join(elements, array.length);
   }
 
   @Override
   protected <E> @NotNull String collection(final @NotNull Collection<E> collection, final @NotNull Stream<String> elements) {
-    return elements.collect(COMMA_SQUARE);
+    return this.join(elements, collection.size());
   }
 
   @Override
   protected @NotNull String examinable(final @NotNull String name, final @NotNull Stream<Map.Entry<String, String>> properties) {
-    return name + properties.map(property -> property.getKey() + '=' + property.getValue()).collect(COMMA_CURLY);
+    final StringBuilder sb = new StringBuilder(this.capacity(name));
+    final int start = sb.append(name).append('{').length();
+    // a property always has a name, so appending one always moves past the start
+    properties.forEachOrdered(property -> {
+      if (sb.length() > start) sb.append(", ");
+      sb.append(property.getKey()).append('=').append(property.getValue());
+    });
+    sb.append('}');
+    this.examined(name, sb);
+    return sb.toString();
+  }
+
+  @Override
+  protected @NotNull ExaminableBuilder<String> examinable(final @NotNull String name) {
+    if (!this.writesDirectly) return super.examinable(name);
+    return new Properties(this, name);
   }
 
   @Override
   protected <K, V> @NotNull String map(final @NotNull Map<K, V> map, final @NotNull Stream<Map.Entry<String, String>> entries) {
-    return entries.map(entry -> entry.getKey() + '=' + entry.getValue()).collect(COMMA_CURLY);
+    final StringBuilder sb = new StringBuilder(this.capacity(map.size()));
+    sb.append('{');
+    // an entry always has its '=', so appending one always moves past the brace
+    entries.forEachOrdered(entry -> {
+      if (sb.length() > 1) sb.append(", ");
+      sb.append(entry.getKey()).append('=').append(entry.getValue());
+    });
+    sb.append('}');
+    this.examined(map.size(), sb);
+    return sb.toString();
   }
 
   @Override
@@ -106,6 +234,14 @@ public class StringExaminer extends AbstractExaminer<String> {
     return String.valueOf(value);
   }
 
+  @Override
+  protected <T> @NotNull String scalar(final @NotNull T value, final TypeAdapter.@NotNull Writer<? super T> writer) {
+    if (!this.writesDirectly) return super.scalar(value, writer);
+    final StringBuilder sb = new StringBuilder(SCALAR_LENGTH);
+    writer.write(value, sb);
+    return sb.toString();
+  }
+
   @Override
   public @NotNull String examine(final boolean value) {
     return String.valueOf(value);
@@ -123,12 +259,12 @@ public class StringExaminer extends AbstractExaminer<String> {
 
   @Override
   public @NotNull String examine(final double value) {
-    return Strings.withSuffix(String.valueOf(value), 'd');
+    return Strings.withSuffix(value, 'd');
   }
 
   @Override
   public @NotNull String examine(final float value) {
-    return Strings.withSuffix(String.valueOf(value), 'f');
+    return Strings.withSuffix(value, 'f');
   }
 
   @Override
@@ -148,22 +284,22 @@ public class StringExaminer extends AbstractExaminer<String> {
 
   @Override
   protected <T> @NotNull String stream(final @NotNull Stream<T> stream) {
-    return stream.map(this::examine).collect(COMMA_SQUARE);
+    return this.join(stream.map(this::examine), -1);
   }
 
   @Override
   protected @NotNull String stream(final @NotNull DoubleStream stream) {
-    return stream.mapToObj(this::examine).collect(COMMA_SQUARE);
+    return this.join(stream.mapToObj(this::examine), -1);
   }
 
   @Override
   protected @NotNull String stream(final @NotNull IntStream stream) {
-    return stream.mapToObj(this::examine).collect(COMMA_SQUARE);
+    return this.join(stream.mapToObj(this::examine), -1);
   }
 
   @Override
   protected @NotNull String stream(final @NotNull LongStream stream) {
-    return stream.mapToObj(this::examine).collect(COMMA_SQUARE);
+    return this.join(stream.mapToObj(this::examine), -1);
   }
 
   @Override
@@ -174,7 +310,7 @@ public class StringExaminer extends AbstractExaminer<String> {
 
   @Override
   protected @NotNull String array(final int length, final IntFunction<String> value) {
-    final StringBuilder sb = new StringBuilder();
+    final StringBuilder sb = new StringBuilder(this.capacity(length));
     sb.append('[');
     for (int i = 0; i < length; i++) {
       sb.append(value.apply(i));
@@ -183,9 +319,93 @@ public class StringExaminer extends AbstractExaminer<String> {
       }
     }
     sb.append(']');
+    this.examined(length, sb);
     return sb.toString();
   }
 
+  @Override
+  public @NotNull String examine(final boolean@Nullable[] values) {
+    if (!this.writesDirectly || values == null) return super.examine(values);
+    return this.primitives(values.length, 6, (sb, i) -> sb.append(values[i]));
+  }
+
+  @Override
+  public @NotNull String examine(final byte@Nullable[] values) {
+    if (!this.writesDirectly || values == null) return super.examine(values);
+    return this.primitives(values.length, 5, (sb, i) -> sb.append((int) values[i]));
+  }
+
+  @Override
+  public @NotNull String examine(final double@Nullable[] values) {
+    if (!this.writesDirectly || values == null) return super.examine(values);
+    return this.primitives(values.length, 12, (sb, i) -> sb.append(values[i]).append('d'));
+  }
+
+  @Override
+  public @NotNull String examine(final float@Nullable[] values) {
+    if (!this.writesDirectly || values == null) return super.examine(values);
+    return this.primitives(values.length, 10, (sb, i) -> sb.append(values[i]).append('f'));
+  }
+
+  @Override
+  public @NotNull String examine(final int@Nullable[] values) {
+    if (!this.writesDirectly || values == null) return super.examine(values);
+    return this.primitives(values.length, 6, (sb, i) -> sb.append(values[i]));
+  }
+
+  @Override
+  public @NotNull String examine(final long@Nullable[] values) {
+    if (!this.writesDirectly || values == null) return super.examine(values);
+    return this.primitives(values.length, 8, (sb, i) -> sb.append(values[i]));
+  }
+
+  @Override
+  public @NotNull String examine(final short@Nullable[] values) {
+    if (!this.writesDirectly || values == null) return super.examine(values);
+    return this.primitives(values.length, 6, (sb, i) -> sb.append((int) values[i]));
+  }
+
+  // writes each element straight into the result, rather than examining each to a string of its own
+  private String primitives(final int length, final int elementLength, final ObjIntConsumer<StringBuilder> element) {
+    final StringBuilder sb = new StringBuilder(2 + length * elementLength);
+    sb.append('[');
+    for (int i = 0; i < length; i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      element.accept(sb, i);
+    }
+    return sb.append(']').toString();
+  }
+
+  // writes each visited property straight into the result, as it is examined
+  private static final class Properties implements ExaminableBuilder<String> {
+    private final StringExaminer examiner;
+    private final String name;
+    private final StringBuilder sb;
+    private final int start;
+
+    Properties(final @NotNull StringExaminer examiner, final @NotNull String name) {
+      this.examiner = examiner;
+      this.name = name;
+      this.sb = new StringBuilder(examiner.capacity(name));
+      this.start = this.sb.append(name).append('{').length();
+    }
+
+    @Override
+    public void property(final @NotNull String name, final @NotNull String value) {
+      if (this.sb.length() > this.start) this.sb.append(", ");
+      this.sb.append(name).append('=').append(value);
+    }
+
+    @Override
+    public @NotNull String build() {
+      this.sb.append('}');
+      this.examiner.examined(this.name, this.sb);
+      return this.sb.toString();
+    }
+  }
+
   private static final class Instances {
     static final StringExaminer SIMPLE_ESCAPING = new StringExaminer(DEFAULT_ESCAPER);
   }
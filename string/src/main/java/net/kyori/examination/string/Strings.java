@@ -25,13 +25,58 @@ package net.kyori.examination.string;
 
 import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 final class Strings {
+  // indexed by character, up to the highest character which needs escaping
+  private static final String[] ESCAPES = new String['\\' + 1];
+
+  static {
+    // a quote is escaped before backslashes are doubled, so it ends up with two
+    ESCAPES['"'] = "\\\\\"";
+    ESCAPES['\\'] = "\\\\";
+    ESCAPES['\b'] = "\\b";
+    ESCAPES['\f'] = "\\f";
+    ESCAPES['\n'] = "\\n";
+    ESCAPES['\r'] = "\\r";
+    ESCAPES['\t'] = "\\t";
+  }
+
   private Strings() {
   }
 
-  static @NotNull String withSuffix(final String string, final char suffix) {
-    return string + suffix;
+  // same output as replacing each escaped character in turn, but in one pass - and without copying if nothing needs escaping
+  static @NotNull String escape(final @NotNull String string) {
+    final int length = string.length();
+    int i = 0;
+    while (i < length && escape(string.charAt(i)) == null) {
+      i++;
+    }
+    if (i == length) return string;
+
+    final StringBuilder sb = new StringBuilder(length + 16);
+    int start = 0;
+    for (; i < length; i++) {
+      final String escape = escape(string.charAt(i));
+      if (escape != null) {
+        sb.append(string, start, i).append(escape);
+        start = i + 1;
+      }
+    }
+    return sb.append(string, start, length).toString();
+  }
+
+  private static @Nullable String escape(final char c) {
+    return c < ESCAPES.length ? ESCAPES[c] : null;
+  }
+
+  // StringBuilder writes the digits itself - and the same digits as Double.toString(), on any JDK
+  static @NotNull String withSuffix(final double value, final char suffix) {
+    return new StringBuilder(25).append(value).append(suffix).toString();
+  }
+
+  static @NotNull String withSuffix(final float value, final char suffix) {
+    return new StringBuilder(16).append(value).append(suffix).toString();
   }
 
   static @NotNull String wrapIn(final String string, final char wrap) {
@@ -43,16 +88,7 @@ final class Strings {
   }
 
   static @NotNull String repeat(final @NotNull String string, final int count) {
-    if (count == 0) {
-      return "";
-    } else if (count == 1) {
-      return string;
-    }
-    final StringBuilder sb = new StringBuilder(string.length() * count);
-    for (int i = 0; i < count; ++i) {
-      sb.append(string);
-    }
-    return sb.toString();
+    return Repeat.repeat(string, count);
   }
 
   static @NotNull String padEnd(final @NotNull String string, final int minLength, final char padding) {
@@ -0,0 +1,157 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A publisher of the lines a {@link MultiLineStringExaminer} produces for a value.
+ *
+ * <p>Lines are produced as subscribers request them, on the requesting thread, so only as much of the
+ * value is examined as has been requested - rather than the whole value being examined up front.</p>
+ *
+ * <p>The value is examined again for each subscriber. Lines are formatted as by
+ * {@link MultiLineStringExaminer} itself, with values formatted by its single-line examiner - any
+ * other overridden behaviour of the examiner is not used.</p>
+ *
+ * @since 1.4.0
+ */
+public final class MultiLineStringPublisher implements Flow.Publisher<String> {
+  private final LazyMultiLineExaminer examiner;
+  private final @Nullable Object value;
+
+  /**
+   * Creates a publisher of the lines of {@code value}, escaped simply.
+   *
+   * @param value the value
+   * @return a publisher
+   * @since 1.4.0
+   */
+  public static @NotNull MultiLineStringPublisher of(final @Nullable Object value) {
+    return of(MultiLineStringExaminer.simpleEscaping(), value);
+  }
+
+  /**
+   * Creates a publisher of the lines of {@code value}.
+   *
+   * @param examiner the examiner
+   * @param value the value
+   * @return a publisher
+   * @since 1.4.0
+   */
+  public static @NotNull MultiLineStringPublisher of(final @NotNull MultiLineStringExaminer examiner, final @Nullable Object value) {
+    return new MultiLineStringPublisher(new LazyMultiLineExaminer(examiner.examiner()), value);
+  }
+
+  private MultiLineStringPublisher(final LazyMultiLineExaminer examiner, final @Nullable Object value) {
+    this.examiner = examiner;
+    this.value = value;
+  }
+
+  @Override
+  public void subscribe(final Flow.Subscriber<? super String> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    subscriber.onSubscribe(new Lines(subscriber));
+  }
+
+  private final class Lines implements Flow.Subscription {
+    private final AtomicLong requested = new AtomicLong();
+    // the number of times lines have been asked for while they were already being emitted
+    private final AtomicInteger missed = new AtomicInteger();
+    private final Flow.Subscriber<? super String> subscriber;
+    private @Nullable Iterator<String> lines;
+    private volatile boolean done;
+
+    Lines(final Flow.Subscriber<? super String> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(final long n) {
+      if (this.done) return;
+      if (n <= 0) {
+        this.done = true;
+        this.subscriber.onError(new IllegalArgumentException("non-positive request signals are illegal: " + n));
+        return;
+      }
+      this.requested.getAndAccumulate(n, (current, add) -> {
+        final long sum = current + add;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+      });
+      this.emit();
+    }
+
+    @Override
+    public void cancel() {
+      this.done = true;
+    }
+
+    /*
+     * Emits as many lines as have been requested. Only one thread emits at a time - requests made while
+     * emitting, including from within onNext, are picked up by the emitting thread rather than recursing.
+     */
+    private void emit() {
+      if (this.missed.getAndIncrement() != 0) return;
+      int missed = 1;
+      do {
+        final long requested = this.requested.get();
+        long emitted = 0;
+        // only examine as far as the next line once it has been requested
+        while (emitted != requested && !this.done) {
+          final String line;
+          final boolean last;
+          try {
+            if (this.lines == null) {
+              this.lines = MultiLineStringPublisher.this.examiner.examine(MultiLineStringPublisher.this.value);
+            }
+            line = this.lines.next();
+            last = !this.lines.hasNext();
+          } catch (final RuntimeException e) {
+            this.done = true;
+            this.subscriber.onError(e);
+            break;
+          }
+          this.subscriber.onNext(line);
+          emitted++;
+          if (last && !this.done) {
+            this.done = true;
+            this.subscriber.onComplete();
+          }
+        }
+        if (this.done) {
+          this.lines = null;
+        } else if (requested != Long.MAX_VALUE) {
+          this.requested.addAndGet(-emitted);
+        }
+        missed = this.missed.addAndGet(-missed);
+      } while (missed != 0);
+    }
+  }
+}
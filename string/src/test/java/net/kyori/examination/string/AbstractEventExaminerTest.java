@@ -0,0 +1,325 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import net.kyori.examination.AbstractEventExaminer;
+import net.kyori.examination.CancellationToken;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.Projection;
+import net.kyori.examination.PropertyVisitor;
+import net.kyori.examination.References;
+import net.kyori.examination.string.Examinables.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AbstractEventExaminerTest {
+  private final Recorder examiner = new Recorder();
+
+  @Test
+  void testLeaves() {
+    assertEquals(Arrays.asList("nil"), this.examiner.examine((Object) null));
+    assertEquals(Arrays.asList("string abc"), this.examiner.examine("abc"));
+    assertEquals(Arrays.asList("int 12"), this.examiner.examine(12));
+    assertEquals(Arrays.asList("long 12"), this.examiner.examine((Object) 12L));
+    assertEquals(Arrays.asList("scalar 12"), this.examiner.examine(new StringBuilder("12")));
+  }
+
+  @Test
+  void testArrays() {
+    assertEquals(Arrays.asList("beginArray 2", "int 1", "int 2", "endArray"), this.examiner.examine(new int[]{1, 2}));
+    assertEquals(Arrays.asList("beginArray 2", "string a", "nil", "endArray"), this.examiner.examine(new String[]{"a", null}));
+    assertEquals(Arrays.asList("nil"), this.examiner.examine((int[]) null));
+  }
+
+  @Test
+  void testCollectionsAndStreams() {
+    assertEquals(Arrays.asList("beginCollection 2", "string a", "beginCollection 0", "endCollection", "endCollection"), this.examiner.examine(Arrays.asList("a", new ArrayList<>())));
+    assertEquals(Arrays.asList("beginCollection -1", "int 1", "int 2", "endCollection"), this.examiner.examine(IntStream.of(1, 2)));
+  }
+
+  @Test
+  void testMap() {
+    assertEquals(Arrays.asList("beginMap 2", "string a", "int 1", "string b", "beginArray 0", "endArray", "endMap"), this.examiner.examine(ImmutableMap.of("a", 1, "b", new long[0])));
+  }
+
+  @Test
+  void testExaminable() {
+    assertEquals(Arrays.asList(
+      "beginExaminable Outer",
+      "property inner",
+      "beginExaminable Inner",
+      "property abc",
+      "string def",
+      "endExaminable",
+      "property values",
+      "beginCollection 1",
+      "int 3",
+      "endCollection",
+      "endExaminable"
+    ), this.examiner.examine(new Outer()));
+  }
+
+  @Test
+  void testVisitingExaminable() {
+    assertEquals(Arrays.asList(
+      "beginExaminable Visiting",
+      "property abc",
+      "char d",
+      "property ghi",
+      "beginArray 1",
+      "boolean true",
+      "endArray",
+      "property jkl",
+      "beginExaminable Inner",
+      "property abc",
+      "string def",
+      "endExaminable",
+      "endExaminable"
+    ), this.examiner.examine(new Visiting()));
+  }
+
+  @Test
+  void testProjection() {
+    assertEquals(Arrays.asList(
+      "beginExaminable Visiting",
+      "property jkl",
+      "beginExaminable Inner",
+      "property abc",
+      "string def",
+      "endExaminable",
+      "endExaminable"
+    ), Projection.include("jkl.abc").examine(this.examiner, new Visiting()));
+    assertEquals(Arrays.asList("beginMap 2", "string b", "int 2", "endMap"), Projection.include("b").examine(this.examiner, ImmutableMap.of("a", 1, "b", 2)));
+  }
+
+  @Test
+  void testReferences() {
+    final Node node = new Node("node");
+    node.children.add(node);
+    assertEquals(Arrays.asList(
+      "beginExaminable Node@1",
+      "property name",
+      "string node",
+      "property children",
+      "beginCollection 1",
+      "scalar @1",
+      "endCollection",
+      "endExaminable"
+    ), References.examine(this.examiner, node));
+  }
+
+  @Test
+  void testCancelled() {
+    final CancellationToken token = CancellationToken.create();
+    token.cancel();
+    assertEquals(
+      Arrays.asList("beginExaminable Visiting", "property abc", "scalar ...", "endExaminable"),
+      token.run(() -> this.examiner.examine("Visiting", new Visiting().examinableProperties()))
+    );
+  }
+
+  @Test
+  void testExaminedLazily() {
+    // the properties of a child are not examined before the events of the properties before it are emitted
+    final List<String> order = new ArrayList<>();
+    final Recorder examiner = new Recorder() {
+      @Override
+      protected void property(final @NonNull String name) {
+        order.add(name);
+        super.property(name);
+      }
+    };
+    examiner.examine("Lazy", Stream.of(
+      ExaminableProperty.of("first", 1),
+      ExaminableProperty.of("second", new Examinable() {
+        @Override
+        public @NonNull String examinableName() {
+          return "Child";
+        }
+
+        @Override
+        public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+          order.add("child");
+          return Stream.of(ExaminableProperty.of("third", 3));
+        }
+      })
+    ));
+    assertEquals(Arrays.asList("first", "second", "child", "third"), order);
+  }
+
+  static class Recorder extends AbstractEventExaminer<List<String>> {
+    private List<String> events = new ArrayList<>();
+
+    @Override
+    protected @NonNull List<String> result() {
+      final List<String> events = this.events;
+      this.events = new ArrayList<>();
+      return events;
+    }
+
+    @Override
+    protected void beginExaminable(final @NonNull String name) {
+      this.events.add("beginExaminable " + name);
+    }
+
+    @Override
+    protected void property(final @NonNull String name) {
+      this.events.add("property " + name);
+    }
+
+    @Override
+    protected void endExaminable() {
+      this.events.add("endExaminable");
+    }
+
+    @Override
+    protected void beginCollection(final int size) {
+      this.events.add("beginCollection " + size);
+    }
+
+    @Override
+    protected void endCollection() {
+      this.events.add("endCollection");
+    }
+
+    @Override
+    protected void beginArray(final int length) {
+      this.events.add("beginArray " + length);
+    }
+
+    @Override
+    protected void endArray() {
+      this.events.add("endArray");
+    }
+
+    @Override
+    protected void beginMap(final int size) {
+      this.events.add("beginMap " + size);
+    }
+
+    @Override
+    protected void endMap() {
+      this.events.add("endMap");
+    }
+
+    @Override
+    protected void nil() {
+      this.events.add("nil");
+    }
+
+    @Override
+    protected void scalar(final @NonNull Object value) {
+      this.events.add("scalar " + value);
+    }
+
+    @Override
+    protected void value(final @NonNull String value) {
+      this.events.add("string " + value);
+    }
+
+    @Override
+    protected void value(final boolean value) {
+      this.events.add("boolean " + value);
+    }
+
+    @Override
+    protected void value(final byte value) {
+      this.events.add("byte " + value);
+    }
+
+    @Override
+    protected void value(final char value) {
+      this.events.add("char " + value);
+    }
+
+    @Override
+    protected void value(final double value) {
+      this.events.add("double " + value);
+    }
+
+    @Override
+    protected void value(final float value) {
+      this.events.add("float " + value);
+    }
+
+    @Override
+    protected void value(final int value) {
+      this.events.add("int " + value);
+    }
+
+    @Override
+    protected void value(final long value) {
+      this.events.add("long " + value);
+    }
+
+    @Override
+    protected void value(final short value) {
+      this.events.add("short " + value);
+    }
+  }
+
+  private static final class Outer implements Examinable {
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("inner", new Inner()),
+        ExaminableProperty.of("values", Arrays.asList(3))
+      );
+    }
+  }
+
+  private static final class Inner implements Examinable {
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(ExaminableProperty.of("abc", "def"));
+    }
+  }
+
+  private static final class Visiting implements Examinable {
+    @Override
+    public void examineProperties(final @NonNull PropertyVisitor visitor) {
+      visitor.visit("abc", 'd');
+      visitor.visit("ghi", new boolean[]{true});
+      visitor.visit(ExaminableProperty.of("jkl", new Inner()));
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("abc", 'd'),
+        ExaminableProperty.of("ghi", new boolean[]{true}),
+        ExaminableProperty.of("jkl", new Inner())
+      );
+    }
+  }
+}
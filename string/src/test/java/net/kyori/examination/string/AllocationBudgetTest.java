@@ -0,0 +1,151 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import com.google.common.collect.ImmutableMap;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.function.Supplier;
+import net.kyori.examination.string.Examinables.ExaminableA;
+import net.kyori.examination.string.Examinables.ExaminableD;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+ * Budgets are bytes allocated per examination, measured on the current thread once the examiner is warm.
+ *
+ * Java 8 gets its own budget, as the standard library allocates differently there. Both are set with
+ * headroom over what is observed on the JDKs we test with - if a change legitimately allocates more, raise
+ * the budget in the same change and say why.
+ */
+class AllocationBudgetTest {
+  // enough for the examiner to be compiled, even when earlier tests have left the compiler busy
+  private static final int WARMUP = 50_000;
+  private static final int ITERATIONS = 2_000;
+  private static final MethodHandle ALLOCATED_BYTES = allocatedBytes();
+  private static final boolean JAVA_8 = System.getProperty("java.specification.version").startsWith("1.");
+
+  private static final Map<String, Object> NESTED_MAP = ImmutableMap.of(
+    "abc", ImmutableMap.of("def", 1, "ghi", 2),
+    "jkl", ImmutableMap.of("mno", ImmutableMap.of("pqr", "stu"))
+  );
+  private static final int[] INT_ARRAY = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16};
+  private static final double[] DOUBLE_ARRAY = {0.1d, 0.2d, 0.3d, 0.4d, 0.5d, 0.6d, 0.7d, 0.8d};
+  private static final String ESCAPED_STRING = "line one\n\t\"quoted\" and \\escaped\\\r\nline two";
+
+  private final StringExaminer examiner = StringExaminer.simpleEscaping();
+  private final MultiLineStringExaminer multiLineExaminer = MultiLineStringExaminer.simpleEscaping();
+
+  @Test
+  void testExaminable() {
+    assertWithinBudget("examinable", 6_200, 4_200, () -> this.examiner.examine(new ExaminableA()));
+  }
+
+  @Test
+  void testVisitingExaminable() {
+    assertWithinBudget("visiting examinable", 2_600, 1_850, () -> this.examiner.examine(new ExaminableD()));
+  }
+
+  @Test
+  void testNestedMap() {
+    assertWithinBudget("nested map", 6_000, 4_800, () -> this.examiner.examine(NESTED_MAP));
+  }
+
+  @Test
+  void testIntArray() {
+    assertWithinBudget("int array", 600, 400, () -> this.examiner.examine(INT_ARRAY));
+  }
+
+  @Test
+  void testDoubleArray() {
+    assertWithinBudget("double array", 600, 1_200, () -> this.examiner.examine(DOUBLE_ARRAY));
+  }
+
+  @Test
+  void testEscapedString() {
+    assertWithinBudget("escaped string", 1_200, 800, () -> this.examiner.examine(ESCAPED_STRING));
+  }
+
+  @Test
+  void testMultiLineExaminable() {
+    assertWithinBudget("multi-line examinable", 16_000, 17_000, () -> this.multiLineExaminer.examine(new ExaminableA()).toArray());
+  }
+
+  @Test
+  void testMultiLineNestedMap() {
+    assertWithinBudget("multi-line nested map", 21_000, 20_000, () -> this.multiLineExaminer.examine(NESTED_MAP).toArray());
+  }
+
+  @Test
+  void testMultiLineIntArray() {
+    assertWithinBudget("multi-line int array", 9_600, 9_400, () -> this.multiLineExaminer.examine(INT_ARRAY).toArray());
+  }
+
+  private static void assertWithinBudget(final String name, final long java8Budget, final long currentBudget, final Supplier<?> operation) {
+    final long budget = JAVA_8 ? java8Budget : currentBudget;
+    assumeTrue(ALLOCATED_BYTES != null, "thread allocation measurement is not supported by this JVM");
+    for (int i = 0; i < WARMUP; i++) {
+      operation.get();
+    }
+    final long overhead = allocatedBytes(() -> null);
+    final long allocated = allocatedBytes(operation) - overhead;
+    assertTrue(allocated <= budget, () -> name + " allocated " + allocated + " bytes/op, over its budget of " + budget);
+  }
+
+  private static long allocatedBytes(final Supplier<?> operation) {
+    final Object bean = ManagementFactory.getThreadMXBean();
+    final long thread = Thread.currentThread().getId();
+    try {
+      final long start = (long) ALLOCATED_BYTES.invokeExact(bean, thread);
+      for (int i = 0; i < ITERATIONS; i++) {
+        operation.get();
+      }
+      final long end = (long) ALLOCATED_BYTES.invokeExact(bean, thread);
+      return (end - start) / ITERATIONS;
+    } catch (final Throwable t) {
+      throw new AssertionError(t);
+    }
+  }
+
+  // com.sun.management is not something we can import directly, but HotSpot and OpenJ9 both provide it
+  private static MethodHandle allocatedBytes() {
+    try {
+      final Class<?> type = Class.forName("com.sun.management.ThreadMXBean");
+      final Object bean = ManagementFactory.getThreadMXBean();
+      if (!type.isInstance(bean)) return null;
+      final MethodHandle isSupported = MethodHandles.publicLookup().findVirtual(type, "isThreadAllocatedMemorySupported", MethodType.methodType(boolean.class));
+      final MethodHandle isEnabled = MethodHandles.publicLookup().findVirtual(type, "isThreadAllocatedMemoryEnabled", MethodType.methodType(boolean.class));
+      if (!(boolean) isSupported.invoke(bean) || !(boolean) isEnabled.invoke(bean)) return null;
+      return MethodHandles.publicLookup().findVirtual(type, "getThreadAllocatedBytes", MethodType.methodType(long.class, long.class))
+        .asType(MethodType.methodType(long.class, Object.class, long.class));
+    } catch (final Throwable t) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.Projection;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AppendingStringExaminerTest {
+  private final StringExaminer expected = StringExaminer.simpleEscaping();
+
+  @Test
+  void testMatchesStringExaminer() {
+    this.assertMatches(null);
+    this.assertMatches("a \"quoted\"\nstring");
+    this.assertMatches('\t');
+    this.assertMatches(new Object[]{1, 2L, 3.0f, 4.0d, (byte) 5, (short) 6, true, null});
+    this.assertMatches(new int[]{1, 2, 3});
+    this.assertMatches(new double[0]);
+    this.assertMatches(Arrays.asList("a", Collections.emptyList(), Arrays.asList(1, 2)));
+    this.assertMatches(ImmutableMap.of("a", 1, "b", ImmutableMap.of("c", new char[]{'d'}), "e", Collections.emptyMap()));
+    this.assertMatches(new Outer());
+  }
+
+  @Test
+  void testProjection() {
+    final Projection projection = Projection.include("b", "c.d");
+    final Object value = ImmutableMap.of("a", 1, "b", Arrays.asList(2, 3), "c", ImmutableMap.of("d", 4, "e", 5));
+    final String expected = projection.examine(this.expected, value);
+    assertEquals("{\"b\"=[2, 3], \"c\"={\"d\"=4}}", expected);
+    assertEquals(expected, projection.examine(AppendingStringExaminer.simpleEscaping(new StringBuilder()), value).toString());
+  }
+
+  @Test
+  void testAppendsTopLevelValues() {
+    final StringBuilder sb = new StringBuilder();
+    final AppendingStringExaminer<StringBuilder> examiner = AppendingStringExaminer.simpleEscaping(sb);
+    examiner.examine(IntStream.of(1, 2));
+    examiner.examine(new Outer());
+    assertEquals("[1, 2]" + this.expected.examine(new Outer()), sb.toString());
+  }
+
+  @Test
+  void testToChannel() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final Writer writer = new ByteChannelWriter(Channels.newChannel(out), 16)) {
+      AppendingStringExaminer.simpleEscaping(writer).examine(new Outer());
+    }
+    assertArrayEquals(this.expected.examine(new Outer()).getBytes(StandardCharsets.UTF_8), out.toByteArray());
+  }
+
+  private void assertMatches(final Object value) {
+    assertEquals(this.expected.examine(value), AppendingStringExaminer.simpleEscaping(new StringBuilder()).examine(value).toString());
+  }
+
+  private static final class Outer implements Examinable {
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("name", "\u2603 \ud83d\ude00"),
+        ExaminableProperty.of("inner", new Inner()),
+        ExaminableProperty.of("values", new long[]{1, 2}),
+        ExaminableProperty.of("empty", new Inner[0]),
+        ExaminableProperty.of("map", ImmutableMap.of("k", new Inner()))
+      );
+    }
+  }
+
+  private static final class Inner implements Examinable {
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("abc", 'd'),
+        ExaminableProperty.of("nothing", (Object) null)
+      );
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import net.kyori.examination.CancellationToken;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.Projection;
+import net.kyori.examination.References;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BulkExaminationTest {
+  @Test
+  void testSeparators() {
+    final List<Object> values = Arrays.asList("a", 1, null, Arrays.asList(2, 3));
+    assertEquals("\"a\"\n1\nnull\n[2, 3]", BulkExamination.examineAll(values, AppendingStringExaminer::simpleEscaping, new StringBuilder()).toString());
+    assertEquals("\"a\" | 1 | null | [2, 3]", BulkExamination.examineAll(values, AppendingStringExaminer::simpleEscaping, new StringBuilder(), " | ").toString());
+    assertEquals("", BulkExamination.examineAll(Collections.emptyList(), AppendingStringExaminer::simpleEscaping, new StringBuilder()).toString());
+  }
+
+  @Test
+  void testMatchesStringExaminer() {
+    final List<Entity> values = entities(100);
+    assertEquals(expected(StringExaminer.simpleEscaping(), values), BulkExamination.examineAll(values, AppendingStringExaminer::simpleEscaping, new StringBuilder()).toString());
+  }
+
+  @Test
+  void testCreatedExaminers() {
+    final AtomicInteger created = new AtomicInteger();
+    final Function<Appendable, AppendingStringExaminer<Appendable>> examiners = appendable -> {
+      created.incrementAndGet();
+      return new AppendingStringExaminer<>(appendable, String::toUpperCase);
+    };
+    final List<Entity> values = entities(1_000);
+    final String expected = expected(new StringExaminer(String::toUpperCase), values);
+    // one examiner appends every value to the output
+    assertEquals(expected, BulkExamination.examineAll(values, examiners, new StringBuilder()).toString());
+    assertEquals(1, created.getAndSet(0));
+    // and in parallel, one for each chunk - appending every value in the chunk to the same buffer
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      assertEquals(expected, BulkExamination.examineAll(values, examiners, new StringBuilder(), "\n", pool).toString());
+      assertEquals(16, created.get());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testParallelPreservesOrder() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final List<Entity> values = entities(1_000);
+      assertEquals(expected(StringExaminer.simpleEscaping(), values), BulkExamination.examineAll(values, AppendingStringExaminer::simpleEscaping, new StringBuilder(), "\n", pool).toString());
+      final List<Entity> few = entities(10);
+      assertEquals(expected(StringExaminer.simpleEscaping(), few), BulkExamination.examineAll(few, AppendingStringExaminer::simpleEscaping, new StringBuilder(), "\n", pool).toString());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testParallelContext() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final List<Entity> values = entities(1_000);
+      final StringExaminer examiner = StringExaminer.simpleEscaping();
+      final Projection projection = Projection.include("name");
+      assertEquals(
+        projection.run(() -> expected(examiner, values)),
+        projection.run(() -> BulkExamination.examineAll(values, AppendingStringExaminer::simpleEscaping, new StringBuilder(), "\n", pool).toString())
+      );
+
+      final CancellationToken token = CancellationToken.create();
+      token.cancel();
+      assertEquals(
+        String.join("\n", Collections.nCopies(values.size(), "...")),
+        token.run(() -> BulkExamination.examineAll(values, AppendingStringExaminer::simpleEscaping, new StringBuilder(), "\n", pool).toString())
+      );
+
+      // references are given in order, so the same entity is examined in full only once
+      final List<Entity> same = Collections.nCopies(1_000, new Entity(1));
+      assertEquals(
+        References.run(() -> expected(examiner, same)),
+        References.run(() -> BulkExamination.examineAll(same, AppendingStringExaminer::simpleEscaping, new StringBuilder(), "\n", pool).toString())
+      );
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private static List<Entity> entities(final int count) {
+    return IntStream.range(0, count).mapToObj(Entity::new).collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  private static String expected(final StringExaminer examiner, final List<?> values) {
+    return values.stream().map(examiner::examine).collect(Collectors.joining("\n"));
+  }
+
+  private static final class Entity implements Examinable {
+    private final int id;
+
+    Entity(final int id) {
+      this.id = id;
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("id", this.id),
+        ExaminableProperty.of("name", "entity " + this.id),
+        ExaminableProperty.of("tags", Arrays.asList("a", "b"))
+      );
+    }
+  }
+}
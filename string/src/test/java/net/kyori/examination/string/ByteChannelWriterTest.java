@@ -0,0 +1,73 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ByteChannelWriterTest {
+  private static final String MIXED = "ascii, latin-1 \u00e9\u00ff, bmp \u2603\uffff, supplementary \ud83d\ude00, unpaired \ud83d! \ude00!";
+
+  @Test
+  void testEncodesLikeString() throws IOException {
+    for (final int bufferSize : new int[]{4, 5, 7, 64, 8192}) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      try (final Writer writer = new ByteChannelWriter(Channels.newChannel(out), bufferSize)) {
+        writer.write(MIXED);
+      }
+      assertArrayEquals(MIXED.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+  }
+
+  @Test
+  void testSurrogatePairSplitAcrossWrites() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final Writer writer = new ByteChannelWriter(Channels.newChannel(out), 4)) {
+      for (int i = 0; i < MIXED.length(); i++) {
+        if ((i & 1) == 0) {
+          writer.write(MIXED.charAt(i));
+        } else {
+          writer.write(MIXED.toCharArray(), i, 1);
+        }
+      }
+      writer.write("\ud83d");
+    }
+    assertArrayEquals((MIXED + "\ud83d").getBytes(StandardCharsets.UTF_8), out.toByteArray());
+  }
+
+  @Test
+  void testClosed() throws IOException {
+    final Writer writer = new ByteChannelWriter(Channels.newChannel(new ByteArrayOutputStream()));
+    writer.close();
+    writer.close();
+    assertThrows(IOException.class, () -> writer.write("abc"));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import net.kyori.examination.CachingExaminer;
+import net.kyori.examination.string.Examinables.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CachingExaminerTest {
+  @Test
+  void testReusesUnchanged() {
+    final CachingExaminer<String> examiner = CachingExaminer.of(StringExaminer.simpleEscaping());
+    final Node child = new Node("child");
+    final Node parent = new Node("parent", child);
+
+    assertEquals("Node{name=\"parent\", children=[Node{name=\"child\", children=[]}]}", examiner.examine(parent));
+    assertEquals(1, parent.examinations);
+    assertEquals(1, child.examinations);
+
+    assertEquals("Node{name=\"parent\", children=[Node{name=\"child\", children=[]}]}", examiner.examine(parent));
+    assertEquals(1, parent.examinations);
+    assertEquals(1, child.examinations);
+  }
+
+  @Test
+  void testReexaminesChanged() {
+    final CachingExaminer<String> examiner = CachingExaminer.of(StringExaminer.simpleEscaping());
+    final Node first = new Node("first");
+    final Node second = new Node("second");
+    final Node parent = new Node("parent", first, second);
+    examiner.examine(parent);
+
+    second.name("changed");
+    assertEquals("Node{name=\"parent\", children=[Node{name=\"first\", children=[]}, Node{name=\"changed\", children=[]}]}", examiner.examine(parent));
+    assertEquals(2, parent.examinations);
+    assertEquals(1, first.examinations);
+    assertEquals(2, second.examinations);
+  }
+
+  @Test
+  void testDelegatesHooks() {
+    final CachingExaminer<String> examiner = CachingExaminer.of(new StringExaminer(Strings::escape) {
+      @Override
+      protected @NonNull String nil() {
+        return "nil";
+      }
+    });
+    assertEquals("Node{name=nil, children=[]}", examiner.examine(new Node(null)));
+  }
+
+  @Test
+  void testRetainedResults() {
+    final CachingExaminer<Stream<String>> examiner = CachingExaminer.of(MultiLineStringExaminer.simpleEscaping(), lines -> {
+      final List<String> retained = lines.collect(Collectors.toList());
+      return retained::stream;
+    });
+    final Node node = new Node("node");
+    final List<String> expected = MultiLineStringExaminer.simpleEscaping().examine(node).collect(Collectors.toList());
+    assertEquals(expected, examiner.examine(node).collect(Collectors.toList()));
+    assertEquals(expected, examiner.examine(node).collect(Collectors.toList()));
+    assertEquals(2, node.examinations);
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import net.kyori.examination.CachingExaminer;
+import net.kyori.examination.CancellationToken;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.PropertyVisitor;
+import net.kyori.examination.VersionedExaminable;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CancellationTokenTest {
+  private final StringExaminer examiner = StringExaminer.simpleEscaping();
+
+  @Test
+  void testUntripped() {
+    final CancellationToken token = CancellationToken.create();
+    assertEquals("[1, {\"a\"=\"b\"}]", token.examine(this.examiner, Arrays.asList(1, ImmutableMap.of("a", "b"))));
+  }
+
+  @Test
+  void testCancelled() {
+    final CancellationToken token = CancellationToken.create();
+    token.cancel();
+    assertTrue(token.cancelled());
+    assertEquals("...", token.examine(this.examiner, Arrays.asList(1, 2, 3)));
+    // only examinations made within the token are stopped
+    assertEquals("[1, 2, 3]", this.examiner.examine(Arrays.asList(1, 2, 3)));
+  }
+
+  @Test
+  void testTruncatesCollection() {
+    final CancellationToken token = CancellationToken.create();
+    assertEquals("[1, Trip{a=...}, ...]", token.examine(this.examiner, Arrays.asList(1, new Trip(token), 3, 4)));
+  }
+
+  @Test
+  void testTruncatesArrayAndMap() {
+    final CancellationToken token = CancellationToken.create();
+    assertEquals("[1, Trip{a=...}, ...]", token.examine(this.examiner, new Object[]{1, new Trip(token), 3}));
+    final CancellationToken other = CancellationToken.create();
+    assertEquals("{\"a\"=Trip{a=...}, ...=...}", other.examine(this.examiner, ImmutableMap.of("a", new Trip(other), "b", 2)));
+  }
+
+  @Test
+  void testPrimitiveArrays() {
+    // the token is checked before a primitive array, but not between its elements
+    final CancellationToken token = CancellationToken.create();
+    assertEquals("[[1, 2], Trip{a=...}, ...]", token.examine(this.examiner, new Object[]{new int[]{1, 2}, new Trip(token), new int[]{3}}));
+    assertEquals("...", token.examine(this.examiner, new int[]{1, 2}));
+  }
+
+  @Test
+  void testTruncatesVisitedProperties() {
+    final CancellationToken token = CancellationToken.create();
+    final Examinable examinable = new Examinable() {
+      @Override
+      public void examineProperties(final @NonNull PropertyVisitor visitor) {
+        visitor.visit("a", 1);
+        token.cancel();
+        visitor.visit("b", 2);
+        visitor.visit("c", 3);
+      }
+
+      @Override
+      public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+        return Stream.of(
+          ExaminableProperty.of("a", 1),
+          ExaminableProperty.of("b", 2),
+          ExaminableProperty.of("c", 3)
+        );
+      }
+
+      @Override
+      public @NonNull String examinableName() {
+        return "Visiting";
+      }
+    };
+    assertEquals("Visiting{a=1, b=...}", token.examine(this.examiner, examinable));
+  }
+
+  @Test
+  void testDeadline() {
+    final CancellationToken token = CancellationToken.withTimeout(Duration.ZERO);
+    assertEquals("...", token.examine(this.examiner, Arrays.asList(1, 2, 3)));
+    assertEquals("[1, 2, 3]", CancellationToken.withTimeout(Duration.ofHours(1)).examine(this.examiner, Arrays.asList(1, 2, 3)));
+  }
+
+  @Test
+  void testInterrupted() {
+    final CancellationToken token = CancellationToken.create();
+    Thread.currentThread().interrupt();
+    try {
+      assertEquals("...", token.examine(this.examiner, Arrays.asList(1, 2, 3)));
+      assertTrue(Thread.currentThread().isInterrupted());
+    } finally {
+      Thread.interrupted();
+    }
+    assertFalse(token.cancelled());
+    assertEquals("[1, 2, 3]", token.examine(this.examiner, Arrays.asList(1, 2, 3)));
+  }
+
+  @Test
+  void testTruncatedNotCached() {
+    final CachingExaminer<String> caching = CachingExaminer.of(this.examiner);
+    final VersionedTrip trip = new VersionedTrip();
+    final CancellationToken token = CancellationToken.create();
+    trip.token = token;
+    assertEquals("VersionedTrip{a=...}", token.examine(caching, trip));
+    trip.token = null;
+    assertEquals("VersionedTrip{a=1}", caching.examine(trip));
+  }
+
+  private static final class Trip implements Examinable {
+    private final CancellationToken token;
+
+    Trip(final CancellationToken token) {
+      this.token = token;
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      this.token.cancel();
+      return Stream.of(ExaminableProperty.of("a", 1), ExaminableProperty.of("b", 2));
+    }
+  }
+
+  private static final class VersionedTrip implements VersionedExaminable {
+    CancellationToken token;
+
+    @Override
+    public long examinableVersion() {
+      return 0;
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      if (this.token != null) this.token.cancel();
+      return Stream.of(ExaminableProperty.of("a", 1));
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Measures the first examination in a fresh JVM: how long it takes, and how many of our classes it loads.
+ *
+ * Both are checked against a budget. The class budget is the count today, which is the same on every JDK we
+ * test with, so a change which brings back a class per property type fails - if a change legitimately loads
+ * more classes, raise it in the same change. The latency budget is several times what is observed, as it
+ * depends on the machine, and catches the first examination spinning up far more than it needs to.
+ */
+class ColdStartTest {
+  private static final int CLASS_BUDGET = 22;
+  private static final long LATENCY_BUDGET_MILLIS = 1_000;
+  // -verbose:class output, before and after Java 9
+  private static final Pattern LOADED = Pattern.compile("(?:\\[Loaded |\\[class,load\\] )(net\\.kyori\\.examination\\.\\S+)");
+  private static final Pattern LATENCY = Pattern.compile("^first examination: (\\d+)ns$");
+
+  @Test
+  void testFirstExamination() throws IOException, InterruptedException {
+    final Process process = new ProcessBuilder(
+      Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+      "-verbose:class",
+      "-cp", System.getProperty("java.class.path"),
+      FirstExamination.class.getName()
+    ).redirectErrorStream(true).start();
+
+    final Set<String> loaded = new TreeSet<>();
+    long nanos = -1;
+    try (final BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        final Matcher matcher = LOADED.matcher(line);
+        if (matcher.find() && !matcher.group(1).startsWith(ColdStartTest.class.getName())) {
+          loaded.add(matcher.group(1));
+        }
+        final Matcher latency = LATENCY.matcher(line);
+        if (latency.find()) {
+          nanos = Long.parseLong(latency.group(1));
+        }
+      }
+    }
+    assertEquals(0, process.waitFor(), "the first examination did not produce the expected result");
+    assertTrue(loaded.size() <= CLASS_BUDGET, () -> "loaded " + loaded.size() + " classes: " + loaded);
+    assertTrue(nanos >= 0, "the first examination did not report how long it took");
+    final long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+    assertTrue(millis <= LATENCY_BUDGET_MILLIS, () -> "the first examination took " + millis + "ms, over its budget of " + LATENCY_BUDGET_MILLIS + "ms");
+  }
+
+  static final class FirstExamination {
+    static final String EXPECTED = "Subject{name=\"subject\", id=12, timestamp=1234567890, ratio=0.5d, enabled=true, flags=[1, 2], tags=[\"a\", \"b\"], attributes={\"key\"=\"value\"}}";
+
+    // the result is reported through the exit code, and only the latency is written - on a line of its own, once the examination has finished loading classes
+    public static void main(final String[] args) {
+      final Subject subject = new Subject();
+      final long start = System.nanoTime();
+      final String examined = StringExaminer.simpleEscaping().examine(subject);
+      final long nanos = System.nanoTime() - start;
+      System.err.println("first examination: " + nanos + "ns");
+      System.exit(EXPECTED.equals(examined) ? 0 : 1);
+    }
+  }
+
+  private static final class Subject implements Examinable {
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("name", "subject"),
+        ExaminableProperty.of("id", 12),
+        ExaminableProperty.of("timestamp", 1234567890L),
+        ExaminableProperty.of("ratio", 0.5d),
+        ExaminableProperty.of("enabled", true),
+        ExaminableProperty.of("flags", new int[]{1, 2}),
+        ExaminableProperty.of("tags", Arrays.asList("a", "b")),
+        ExaminableProperty.of("attributes", ImmutableMap.of("key", "value"))
+      );
+    }
+  }
+}
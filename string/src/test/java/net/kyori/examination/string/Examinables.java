@@ -0,0 +1,131 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.PropertyVisitor;
+import net.kyori.examination.VersionedExaminable;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+final class Examinables {
+  private Examinables() {
+  }
+
+  static final class ExaminableA implements Examinable {
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("abc", "def"),
+        ExaminableProperty.of("ghi", new ExaminableC())
+      );
+    }
+  }
+
+  static class ExaminableB implements Examinable {
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("jkl", "mno"),
+        ExaminableProperty.of("pqr", "stu")
+      );
+    }
+  }
+
+  static final class ExaminableC extends ExaminableB {
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.concat(
+        super.examinableProperties(),
+        Stream.of(
+          ExaminableProperty.of("vwx", "yz")
+        )
+      );
+    }
+  }
+
+  static final class ExaminableD implements Examinable {
+    @Override
+    public void examineProperties(final @NonNull PropertyVisitor visitor) {
+      visitor.visit("abc", "def");
+      visitor.visit("ghi", 12);
+      visitor.visit("jkl", new int[]{1, 2});
+      visitor.visit(ExaminableProperty.of("mno", new ExaminableC()));
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("abc", "def"),
+        ExaminableProperty.of("ghi", 12),
+        ExaminableProperty.of("jkl", new int[]{1, 2}),
+        ExaminableProperty.of("mno", new ExaminableC())
+      );
+    }
+  }
+
+  static final class Node implements VersionedExaminable {
+    final List<Node> children;
+    private String name;
+    private long version;
+    int examinations;
+
+    Node(final String name, final Node... children) {
+      this.name = name;
+      this.children = new ArrayList<>(Arrays.asList(children));
+    }
+
+    void name(final String name) {
+      this.name = name;
+      this.version++;
+    }
+
+    @Override
+    public @NonNull String examinableName() {
+      return "Node";
+    }
+
+    @Override
+    public long examinableVersion() {
+      long version = this.version;
+      for (final Node child : this.children) {
+        version = (31 * version) + child.examinableVersion();
+      }
+      return version;
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      this.examinations++;
+      return Stream.of(
+        ExaminableProperty.of("name", this.name),
+        ExaminableProperty.of("children", this.children)
+      );
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.kyori.examination.Footprint;
+import net.kyori.examination.FootprintExaminer;
+import net.kyori.examination.References;
+import net.kyori.examination.string.Examinables.ExaminableD;
+import net.kyori.examination.string.Examinables.Node;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FootprintExaminerTest {
+  private final FootprintExaminer examiner = FootprintExaminer.of(FootprintExaminer.Layout.compressed());
+
+  @Test
+  void testPrimitiveArray() {
+    final Footprint footprint = this.examiner.examine(new int[10]);
+    assertEquals(56, footprint.shallow());
+    assertEquals(56, footprint.retained());
+    assertEquals(1, footprint.objects());
+  }
+
+  @Test
+  void testMap() {
+    final Map<Integer, Long> map = new LinkedHashMap<>();
+    map.put(1, 1L);
+    map.put(2, 2L);
+    final Footprint footprint = this.examiner.examine(map);
+    assertEquals(136, footprint.shallow());
+    assertEquals(216, footprint.retained());
+    assertEquals(5, footprint.objects());
+  }
+
+  @Test
+  void testSharedReferences() {
+    final Node leaf = new Node(null);
+    assertEquals(64, this.examiner.examine(leaf).retained());
+
+    final Footprint footprint = this.examiner.examine(new Node(null, leaf, leaf));
+    assertEquals(24, footprint.shallow());
+    assertEquals(136, footprint.retained());
+    assertEquals(4, footprint.objects());
+
+    final Footprint.Group nodes = footprint.examinables().get("Node");
+    assertEquals(2, nodes.instances());
+    assertEquals(48, nodes.shallow());
+    assertEquals(136, nodes.retained());
+  }
+
+  @Test
+  void testReferences() {
+    final Node leaf = new Node(null);
+    final Footprint footprint = References.run(() -> this.examiner.examine(new Node(null, leaf, new Node(null, leaf))));
+    assertEquals(1, footprint.examinables().size());
+    final Footprint.Group nodes = footprint.examinables().get("Node");
+    assertEquals(3, nodes.instances());
+    assertEquals(footprint.retained(), nodes.retained());
+  }
+
+  @Test
+  void testCycle() {
+    final Node node = new Node(null);
+    node.children.add(node);
+    final Footprint footprint = this.examiner.examine(node);
+    assertEquals(1, footprint.examinables().get("Node").instances());
+    assertEquals(2, footprint.objects());
+  }
+
+  @Test
+  void testVisitedProperties() {
+    final ExaminableD examinable = new ExaminableD();
+    final Footprint visited = this.examiner.examine(examinable);
+    final Footprint streamed = this.examiner.examine(examinable.examinableName(), examinable.examinableProperties());
+    assertEquals(streamed.shallow(), visited.shallow());
+    assertEquals(streamed.retained(), visited.retained());
+    assertEquals(streamed.objects(), visited.objects());
+    assertEquals(1, visited.examinables().get("ExaminableD").instances());
+    assertEquals(1, visited.examinables().get("ExaminableC").instances());
+    // a 12 byte header and a reference for each property, aligned to 8 bytes
+    assertEquals(32, visited.shallow());
+    assertEquals(32 + 24, visited.examinables().get("ExaminableD").shallow() + visited.examinables().get("ExaminableC").shallow());
+  }
+
+  @Test
+  void testLayout() {
+    final FootprintExaminer.Layout layout = FootprintExaminer.Layout.current();
+    assertTrue(FootprintExaminer.of(layout).examine(new byte[0]).retained() > 0);
+    assertThrows(IllegalArgumentException.class, () -> FootprintExaminer.Layout.of(12, 4, 16, 0));
+    assertThrows(IllegalArgumentException.class, () -> FootprintExaminer.Layout.of(-1, 4, 16, 8));
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import net.kyori.examination.CancellationToken;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.Examiner;
+import net.kyori.examination.IterativeExaminer;
+import net.kyori.examination.Projection;
+import net.kyori.examination.PropertyVisitor;
+import net.kyori.examination.References;
+import net.kyori.examination.string.Examinables.ExaminableA;
+import net.kyori.examination.string.Examinables.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IterativeExaminerTest {
+  private final StringExaminer expected = StringExaminer.simpleEscaping();
+  private final IterativeExaminer<String> examiner = IterativeExaminer.of(StringExaminer.simpleEscaping());
+
+  @Test
+  void testMatchesStringExaminer() {
+    this.assertMatches(null);
+    this.assertMatches("abc");
+    this.assertMatches(new Object[]{1, 'a', 2.0d, null, new int[]{1, 2}});
+    this.assertMatches(Arrays.asList("a", Collections.emptyList(), Arrays.asList(1, Arrays.asList(2, 3))));
+    this.assertMatches(ImmutableMap.of("a", 1, Arrays.asList("b"), ImmutableMap.of("c", new Link(null)), "d", Collections.emptyMap()));
+    this.assertMatches(Stream.of(new Link(new Link(null))).collect(Collectors.toList()));
+    this.assertMatches(new Visiting());
+    assertEquals("[1, 2]", this.examiner.examine(IntStream.of(1, 2)));
+  }
+
+  @Test
+  void testDeepGraph() {
+    final int depth = 10_000;
+    Link link = null;
+    for (int i = 0; i < depth; i++) {
+      link = new Link(link);
+    }
+    final StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < depth; i++) {
+      expected.append("Link{next=");
+    }
+    expected.append("null");
+    for (int i = 0; i < depth; i++) {
+      expected.append('}');
+    }
+    assertEquals(expected.toString(), this.examiner.examine(link));
+  }
+
+  @Test
+  void testReferences() {
+    final Node node = new Node("node");
+    node.children.add(node);
+    assertEquals("Node@1{name=\"node\", children=[@1]}", References.examine(this.examiner, node));
+    final Node style = new Node("style");
+    final Node root = new Node("root", new Node("a", style), new Node("b", style));
+    assertEquals(References.examine(this.expected, root), References.examine(this.examiner, root));
+  }
+
+  @Test
+  void testProjection() {
+    final Object value = ImmutableMap.of("a", new ExaminableA(), "b", Arrays.asList(new Visiting(), 2, 3));
+    for (final Projection projection : Arrays.asList(Projection.include("a.ghi.pqr", "b[0].d"), Projection.exclude("a.abc", "b[1]"), Projection.include("b.*.c"))) {
+      assertEquals(projection.examine(this.expected, value), projection.examine(this.examiner, value));
+    }
+  }
+
+  @Test
+  void testCancelled() {
+    final CancellationToken token = CancellationToken.create();
+    assertEquals("[1, Trip{a=...}, ...]", token.examine(this.examiner, Arrays.asList(1, new Trip(token), 3)));
+    final CancellationToken other = CancellationToken.create();
+    assertEquals("{\"a\"=Trip{a=...}, ...=...}", other.examine(this.examiner, ImmutableMap.of("a", new Trip(other), "b", 2)));
+    assertEquals("...", other.examine(this.examiner, Arrays.asList(1, 2)));
+  }
+
+  @Test
+  void testLazyPropertiesAfterCancelled() {
+    // a property the token truncates, or leaves out, is never computed
+    final AtomicInteger computed = new AtomicInteger();
+    for (final Examiner<String> examiner : Arrays.<Examiner<String>>asList(this.expected, this.examiner)) {
+      final CancellationToken token = CancellationToken.create();
+      final Examinable examinable = new Examinable() {
+        @Override
+        public @NonNull String examinableName() {
+          return "Lazy";
+        }
+
+        @Override
+        public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+          return Stream.of(
+            ExaminableProperty.of("a", new Trip(token)),
+            ExaminableProperty.lazy("b", (IntSupplier) computed::incrementAndGet),
+            ExaminableProperty.lazy("c", (IntSupplier) computed::incrementAndGet)
+          );
+        }
+      };
+      assertEquals("Lazy{a=Trip{a=...}, b=...}", token.examine(examiner, examinable));
+    }
+    assertEquals(0, computed.get());
+  }
+
+  private void assertMatches(final Object value) {
+    assertEquals(this.expected.examine(value), this.examiner.examine(value));
+  }
+
+  // cancels its token once its properties are examined
+  private static final class Trip implements Examinable {
+    private final CancellationToken token;
+
+    Trip(final CancellationToken token) {
+      this.token = token;
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      this.token.cancel();
+      return Stream.of(ExaminableProperty.of("a", 1), ExaminableProperty.of("b", 2));
+    }
+  }
+
+  private static final class Link implements Examinable {
+    private final Link next;
+
+    Link(final Link next) {
+      this.next = next;
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(ExaminableProperty.of("next", this.next));
+    }
+  }
+
+  private static final class Visiting implements Examinable {
+    @Override
+    public void examineProperties(final @NonNull PropertyVisitor visitor) {
+      visitor.visit("a", 'b');
+      visitor.visit("c", new long[]{1});
+      visitor.visit("d", Arrays.asList(new Link(null), 2));
+      visitor.visit(ExaminableProperty.of("e", 3.0f));
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("a", 'b'),
+        ExaminableProperty.of("c", new long[]{1}),
+        ExaminableProperty.of("d", Arrays.asList(new Link(null), 2)),
+        ExaminableProperty.of("e", 3.0f)
+      );
+    }
+  }
+}
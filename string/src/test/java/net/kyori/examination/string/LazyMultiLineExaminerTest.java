@@ -0,0 +1,75 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import net.kyori.examination.string.Examinables.Node;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LazyMultiLineExaminerTest {
+  private final MultiLineStringExaminer expected = MultiLineStringExaminer.simpleEscaping();
+  private final LazyMultiLineExaminer examiner = new LazyMultiLineExaminer(StringExaminer.simpleEscaping());
+
+  @Test
+  void testMatchesMultiLineStringExaminer() {
+    this.assertMatches(null);
+    this.assertMatches("abc");
+    this.assertMatches(new String[]{});
+    this.assertMatches(new String[]{"abc", null});
+    this.assertMatches(new int[]{1, 2, 3});
+    this.assertMatches(Arrays.asList("abc", Collections.emptyList(), Arrays.asList(1, Arrays.asList(2, 3))));
+    this.assertMatches(ImmutableMap.of("abc", 1, "def", ImmutableMap.of("ghi", new char[]{'j'}), "klm", Collections.emptyMap()));
+    // keys over more than one line are padded
+    this.assertMatches(ImmutableMap.of(Arrays.asList("a", "bc"), 1, Collections.singletonList("d"), Arrays.asList(2, 3)));
+    this.assertMatches(new Node("root", new Node("left"), new Node("right", new Node("leaf"))));
+  }
+
+  @Test
+  void testExaminesOnlyWhatIsAskedFor() {
+    final Iterator<String> lines = this.examiner.examine(Stream.iterate(0, i -> i + 1));
+    assertEquals(Arrays.asList("[", "    0,", "    1,"), Arrays.asList(lines.next(), lines.next(), lines.next()));
+
+    final Node first = new Node("first");
+    final Node root = new Node("root", first, new Node("second"));
+    final Iterator<String> rootLines = this.examiner.examine(root);
+    rootLines.next();
+    assertEquals(1, root.examinations);
+    assertEquals(0, first.examinations);
+  }
+
+  private void assertMatches(final Object value) {
+    final List<String> actual = new ArrayList<>();
+    this.examiner.examine(value).forEachRemaining(actual::add);
+    assertEquals(this.expected.examine(value).collect(Collectors.toList()), actual);
+  }
+}
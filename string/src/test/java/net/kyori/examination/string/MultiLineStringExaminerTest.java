@@ -30,9 +30,8 @@ import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
-import net.kyori.examination.Examinable;
-import net.kyori.examination.ExaminableProperty;
-import org.checkerframework.checker.nullness.qual.NonNull;
+import net.kyori.examination.string.Examinables.ExaminableA;
+import net.kyori.examination.string.Examinables.ExaminableC;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth8.assertThat;
@@ -326,36 +325,4 @@ class MultiLineStringExaminerTest {
   void testString() {
     assertThat(this.examiner.examine("abc")).containsExactly("\"abc\"");
   }
-
-  private static final class ExaminableA implements Examinable {
-    @Override
-    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
-      return Stream.of(
-        ExaminableProperty.of("abc", "def"),
-        ExaminableProperty.of("ghi", new ExaminableC())
-      );
-    }
-  }
-
-  private static class ExaminableB implements Examinable {
-    @Override
-    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
-      return Stream.of(
-        ExaminableProperty.of("jkl", "mno"),
-        ExaminableProperty.of("pqr", "stu")
-      );
-    }
-  }
-
-  private static final class ExaminableC extends ExaminableB {
-    @Override
-    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
-      return Stream.concat(
-        super.examinableProperties(),
-        Stream.of(
-          ExaminableProperty.of("vwx", "yz")
-        )
-      );
-    }
-  }
 }
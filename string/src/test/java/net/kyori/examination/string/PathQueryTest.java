@@ -0,0 +1,146 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.PathQuery;
+import net.kyori.examination.PropertyVisitor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PathQueryTest {
+  private final StringExaminer examiner = StringExaminer.simpleEscaping();
+
+  @Test
+  void testPath() {
+    final Object sessions = ImmutableMap.of("sessions", Arrays.asList(
+      new Player("a", 1),
+      new Player("b", 2)
+    ));
+    assertEquals(Optional.of("\"b\""), PathQuery.compile("sessions[1].name").examine(this.examiner, sessions));
+    assertEquals(Optional.of("2"), PathQuery.compile("sessions.1.inventory.size").examine(this.examiner, sessions));
+    assertEquals(Optional.of("Inventory{size=1}"), PathQuery.compile("sessions[0].inventory").examine(this.examiner, sessions));
+    assertEquals(Optional.empty(), PathQuery.compile("sessions[2].name").examine(this.examiner, sessions));
+    assertEquals(Optional.empty(), PathQuery.compile("sessions[0].missing").examine(this.examiner, sessions));
+    assertEquals(Optional.empty(), PathQuery.compile("sessions[0].name.length").examine(this.examiner, sessions));
+  }
+
+  @Test
+  void testContainers() {
+    assertEquals(Optional.of("3"), PathQuery.compile("[2]").examine(this.examiner, new int[]{1, 2, 3}));
+    assertEquals(Optional.of("\"c\""), PathQuery.compile("[2]").examine(this.examiner, new LinkedHashSet<>(Arrays.asList("a", "b", "c"))));
+    assertEquals(Optional.of("\"two\""), PathQuery.compile("2").examine(this.examiner, Collections.singletonMap(2, "two")));
+    assertEquals(Optional.of("null"), PathQuery.compile("key").examine(this.examiner, Collections.singletonMap("key", null)));
+    // values without an adapter have no children
+    assertEquals(Optional.empty(), PathQuery.compile("value").examine(this.examiner, Optional.of(12)));
+    assertEquals(Optional.empty(), PathQuery.compile("[0]").examine(this.examiner, null));
+  }
+
+  @Test
+  void testOnlyPathComputed() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Examinable examinable = new Examinable() {
+      @Override
+      public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+        return Stream.of(
+          ExaminableProperty.lazy("a", calls::incrementAndGet),
+          ExaminableProperty.lazy("b", () -> calls.addAndGet(10)),
+          ExaminableProperty.lazy("c", () -> calls.addAndGet(100))
+        );
+      }
+    };
+    assertEquals(Optional.of("10"), PathQuery.compile("b").examine(this.examiner, examinable));
+    assertEquals(10, calls.get());
+  }
+
+  @Test
+  void testVisitingExaminable() {
+    final Examinable examinable = new Examinable() {
+      @Override
+      public void examineProperties(final @NonNull PropertyVisitor visitor) {
+        visitor.visit("a", 1);
+        visitor.visit("b", new int[]{2, 3});
+      }
+
+      @Override
+      public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+        return Stream.of(
+          ExaminableProperty.of("a", 1),
+          ExaminableProperty.of("b", new int[]{2, 3})
+        );
+      }
+    };
+    assertEquals(Optional.of("3"), PathQuery.compile("b[1]").examine(this.examiner, examinable));
+    assertEquals(Optional.empty(), PathQuery.compile("c").examine(this.examiner, examinable));
+  }
+
+  @Test
+  void testInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> PathQuery.compile("a..b"));
+    assertThrows(IllegalArgumentException.class, () -> PathQuery.compile("a[0"));
+    assertEquals("a.b[0]", PathQuery.compile("a.b[0]").path());
+  }
+
+  private static final class Player implements Examinable {
+    private final String name;
+    private final Inventory inventory;
+
+    Player(final String name, final int size) {
+      this.name = name;
+      this.inventory = new Inventory(size);
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("name", this.name),
+        ExaminableProperty.of("inventory", this.inventory)
+      );
+    }
+  }
+
+  private static final class Inventory implements Examinable {
+    private final int size;
+
+    Inventory(final int size) {
+      this.size = size;
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(ExaminableProperty.of("size", this.size));
+    }
+  }
+}
@@ -0,0 +1,281 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import net.kyori.examination.CachingExaminer;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.Projection;
+import net.kyori.examination.PropertyVisitor;
+import net.kyori.examination.VersionedExaminable;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProjectionTest {
+  private final StringExaminer examiner = StringExaminer.simpleEscaping();
+  private final Player player = new Player("kashike", new Location("world", 1, 2), Arrays.asList(new Item("sword", 1), new Item("apple", 16)));
+
+  @Test
+  void testInclude() {
+    assertEquals("Player{location=Location{world=\"world\"}}", Projection.include("location.world").examine(this.examiner, this.player));
+    assertEquals("Player{name=\"kashike\", location=Location{world=\"world\", x=1, z=2}}", Projection.include("name", "location").examine(this.examiner, this.player));
+    assertEquals("Player{}", Projection.include("missing").examine(this.examiner, this.player));
+    // a value along the way to a path is only examined if it could contain it
+    assertEquals("Player{}", Projection.include("name.length").examine(this.examiner, this.player));
+  }
+
+  @Test
+  void testExclude() {
+    assertEquals("Player{name=\"kashike\", location=Location{world=\"world\", z=2}}", Projection.exclude("inventory", "location.x").examine(this.examiner, this.player));
+    assertEquals("Player{name=\"kashike\", location=Location{world=\"world\"}, inventory=[Item{name=\"sword\"}, Item{name=\"apple\"}]}", Projection.of(
+      Collections.emptyList(),
+      Collections.singletonList("**.count")
+    ).examine(this.examiner, new Player("kashike", new Location("world", 1, 2), this.player.inventory) {
+      @Override
+      public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+        return Stream.of(
+          ExaminableProperty.of("name", "kashike"),
+          ExaminableProperty.of("location", new Location("world", 1, 2) {
+            @Override
+            public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+              return Stream.of(ExaminableProperty.of("world", "world"), ExaminableProperty.of("count", 0));
+            }
+          }),
+          ExaminableProperty.of("inventory", this.inventory)
+        );
+      }
+    }));
+  }
+
+  @Test
+  void testIncludeAndExclude() {
+    assertEquals("Player{location=Location{world=\"world\", z=2}}", Projection.of(
+      Collections.singletonList("location"),
+      Collections.singletonList("location.x")
+    ).examine(this.examiner, this.player));
+  }
+
+  @Test
+  void testIndices() {
+    assertEquals("Player{inventory=[Item{name=\"apple\", count=16}]}", Projection.include("inventory[1]").examine(this.examiner, this.player));
+    assertEquals("Player{inventory=[Item{name=\"sword\", count=1}]}", Projection.include("inventory.0").examine(this.examiner, this.player));
+    assertEquals("Player{inventory=[Item{name=\"sword\"}, Item{name=\"apple\"}]}", Projection.include("inventory.*.name").examine(this.examiner, this.player));
+    assertEquals("[[2]]", Projection.include("[1]").examine(this.examiner, new int[][]{{1}, {2}}));
+    assertEquals("[[\"b\"]]", Projection.include("[0][1]").examine(this.examiner, new Object[][]{{"a", "b"}}));
+    assertEquals("Player{name=\"kashike\", location=Location{world=\"world\", x=1, z=2}, inventory=[Item{name=\"apple\", count=16}]}", Projection.exclude("inventory[0]").examine(this.examiner, this.player));
+    // indices count in iteration order
+    assertEquals("[\"b\"]", Projection.include("[1]").examine(this.examiner, new LinkedHashSet<>(Arrays.asList("a", "b", "c"))));
+    // without any named segment, every index steps the same way
+    assertEquals("[[1, 2], [3]]", Projection.include("*.*").examine(this.examiner, Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3))));
+    assertEquals("[[], []]", Projection.exclude("*.*").examine(this.examiner, Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3))));
+    // arrays of primitives are examined whole or not at all
+    assertEquals("[[1, 2]]", Projection.include("[0]").examine(this.examiner, new int[][]{{1, 2}, {3}}));
+    assertEquals("[]", Projection.include("[0][1]").examine(this.examiner, new int[][]{{1, 2}, {3}}));
+  }
+
+  @Test
+  void testMapKeys() {
+    final Object map = ImmutableMap.of("abc", ImmutableMap.of("def", 1, "ghi", 2), "jkl", 3, 4, 5);
+    assertEquals("{\"abc\"={\"ghi\"=2}}", Projection.include("abc.ghi").examine(this.examiner, map));
+    assertEquals("{\"abc\"={\"def\"=1, \"ghi\"=2}, 4=5}", Projection.exclude("jkl").examine(this.examiner, map));
+    assertEquals("{4=5}", Projection.include("[4]").examine(this.examiner, map));
+  }
+
+  @Test
+  void testAnyDepth() {
+    final Object nested = ImmutableMap.of("a", ImmutableMap.of("b", ImmutableMap.of("secret", 1, "c", 2)), "secret", 3);
+    assertEquals("{\"a\"={\"b\"={\"c\"=2}}}", Projection.exclude("**.secret").examine(this.examiner, nested));
+    assertEquals("{\"a\"={\"b\"={\"secret\"=1}}, \"secret\"=3}", Projection.include("**.secret").examine(this.examiner, nested));
+    assertEquals("{\"a\"={\"b\"={\"c\"=2}}}", Projection.include("a.**.c").examine(this.examiner, nested));
+  }
+
+  @Test
+  void testSkippedNotComputed() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Examinable examinable = new Examinable() {
+      @Override
+      public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+        return Stream.of(
+          ExaminableProperty.lazy("cheap", () -> 1),
+          ExaminableProperty.lazy("expensive", calls::incrementAndGet)
+        );
+      }
+
+      @Override
+      public @NonNull String examinableName() {
+        return "Lazy";
+      }
+    };
+    assertEquals("Lazy{cheap=1}", Projection.exclude("expensive").examine(this.examiner, examinable));
+    assertEquals("Lazy{cheap=1}", Projection.include("cheap").examine(this.examiner, examinable));
+    assertEquals(0, calls.get());
+  }
+
+  @Test
+  void testVisitedProperties() {
+    final Examinable examinable = new Examinable() {
+      @Override
+      public void examineProperties(final @NonNull PropertyVisitor visitor) {
+        visitor.visit("a", 1);
+        visitor.visit("b", new int[]{2, 3});
+        visitor.visit("c", Arrays.asList(4, 5));
+      }
+
+      @Override
+      public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+        return Stream.of(
+          ExaminableProperty.of("a", 1),
+          ExaminableProperty.of("b", new int[]{2, 3}),
+          ExaminableProperty.of("c", Arrays.asList(4, 5))
+        );
+      }
+
+      @Override
+      public @NonNull String examinableName() {
+        return "Visiting";
+      }
+    };
+    assertEquals("Visiting{a=1, c=[5]}", Projection.of(Arrays.asList("a", "c"), Collections.singletonList("c[0]")).examine(this.examiner, examinable));
+  }
+
+  @Test
+  void testMultiLine() {
+    assertEquals(
+      Arrays.asList("Player{", "    \"location\" = Location{", "        \"world\" = \"world\"", "    }", "}"),
+      Projection.include("location.world").run(() -> MultiLineStringExaminer.simpleEscaping().examine(this.player).collect(Collectors.toList()))
+    );
+  }
+
+  @Test
+  void testNotCached() {
+    final CachingExaminer<String> caching = CachingExaminer.of(this.examiner);
+    final Versioned versioned = new Versioned();
+    assertEquals("Versioned{a=1, b=2}", caching.examine(versioned));
+    assertEquals("Versioned{a=1}", Projection.include("a").examine(caching, versioned));
+    assertEquals("Versioned{a=1, b=2}", caching.examine(versioned));
+  }
+
+  @Test
+  void testInvalidPaths() {
+    assertThrows(IllegalArgumentException.class, () -> Projection.include(""));
+    assertThrows(IllegalArgumentException.class, () -> Projection.include("a..b"));
+    assertThrows(IllegalArgumentException.class, () -> Projection.include("a."));
+    assertThrows(IllegalArgumentException.class, () -> Projection.include("a[0"));
+    assertThrows(IllegalArgumentException.class, () -> Projection.include("a[0]b"));
+    assertThrows(IllegalArgumentException.class, () -> Projection.include("a[]"));
+  }
+
+  private static class Player implements Examinable {
+    final String name;
+    final Location location;
+    final List<Item> inventory;
+
+    Player(final String name, final Location location, final List<Item> inventory) {
+      this.name = name;
+      this.location = location;
+      this.inventory = inventory;
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("name", this.name),
+        ExaminableProperty.of("location", this.location),
+        ExaminableProperty.of("inventory", this.inventory)
+      );
+    }
+
+    @Override
+    public @NonNull String examinableName() {
+      return "Player";
+    }
+  }
+
+  private static class Location implements Examinable {
+    private final String world;
+    private final int x;
+    private final int z;
+
+    Location(final String world, final int x, final int z) {
+      this.world = world;
+      this.x = x;
+      this.z = z;
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("world", this.world),
+        ExaminableProperty.of("x", this.x),
+        ExaminableProperty.of("z", this.z)
+      );
+    }
+
+    @Override
+    public @NonNull String examinableName() {
+      return "Location";
+    }
+  }
+
+  private static final class Item implements Examinable {
+    private final String name;
+    private final int count;
+
+    Item(final String name, final int count) {
+      this.name = name;
+      this.count = count;
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("name", this.name),
+        ExaminableProperty.of("count", this.count)
+      );
+    }
+  }
+
+  private static final class Versioned implements VersionedExaminable {
+    @Override
+    public long examinableVersion() {
+      return 0;
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(ExaminableProperty.of("a", 1), ExaminableProperty.of("b", 2));
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.GroupPrincipal;
+import java.nio.file.attribute.UserPrincipal;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RecordsTest {
+  // tests are compiled for Java 8, so use a record from the JDK
+  private static final String RECORD = "jdk.net.UnixDomainPrincipal";
+
+  @Test
+  void testRecord() throws ReflectiveOperationException {
+    final Constructor<?> constructor;
+    try {
+      constructor = Class.forName(RECORD).getConstructor(UserPrincipal.class, GroupPrincipal.class);
+    } catch (final ClassNotFoundException e) {
+      assumeTrue(false, "records are not available");
+      return;
+    }
+    final Object record = constructor.newInstance(new Group("alice"), new Group("staff"));
+    assertEquals("UnixDomainPrincipal{user=alice, group=staff}", StringExaminer.simpleEscaping().examine(record));
+  }
+
+  @Test
+  void testComponents() throws IOException, ReflectiveOperationException {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    assumeTrue(compiler != null && hasRecords(), "records are not available");
+    final Path directory = Files.createTempDirectory("records");
+    // tests are compiled for Java 8, so compile the records here
+    Files.write(directory.resolve("Sample.java"), (
+      "public record Sample(int count, double ratio, char initial, boolean flag, long[] ids, String label, Inner inner) {\n"
+        + "  public record Inner(byte b, float f, Object[] values) {}\n"
+        + "}\n"
+    ).getBytes(StandardCharsets.UTF_8));
+    assertEquals(0, compiler.run(null, null, null, "-d", directory.toString(), directory.resolve("Sample.java").toString()));
+    try (final URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()})) {
+      final Class<?> inner = loader.loadClass("Sample$Inner");
+      final Object record = loader.loadClass("Sample")
+        .getConstructor(int.class, double.class, char.class, boolean.class, long[].class, String.class, inner)
+        .newInstance(1, 0.5d, 'x', true, new long[]{2, 3}, "a\nb", inner.getConstructor(byte.class, float.class, Object[].class).newInstance((byte) 4, 1.5f, new Object[]{null, "c"}));
+      assertEquals(
+        "Sample{count=1, ratio=0.5d, initial='x', flag=true, ids=[2, 3], label=\"a\\nb\", inner=Inner{b=4, f=1.5f, values=[null, \"c\"]}}",
+        StringExaminer.simpleEscaping().examine(record)
+      );
+    }
+  }
+
+  private static boolean hasRecords() {
+    try {
+      Class.forName("java.lang.Record");
+      return true;
+    } catch (final ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  private static final class Group implements GroupPrincipal {
+    private final String name;
+
+    Group(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:MethodName")
+    public String getName() {
+      return this.name;
+    }
+
+    @Override
+    public String toString() {
+      return this.name;
+    }
+  }
+}
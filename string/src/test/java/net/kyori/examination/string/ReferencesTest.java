@@ -0,0 +1,85 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import net.kyori.examination.References;
+import net.kyori.examination.string.Examinables.Node;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth8.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReferencesTest {
+  @Test
+  void testSharedExaminable() {
+    final Node style = new Node("style");
+    final Node root = new Node("root", new Node("a", style), new Node("b", style));
+    assertEquals(
+      "Node@1{name=\"root\", children=[Node@2{name=\"a\", children=[Node@3{name=\"style\", children=[]}]}, Node@4{name=\"b\", children=[@3]}]}",
+      References.examine(StringExaminer.simpleEscaping(), root)
+    );
+    // without references, the shared examinable is examined in full each time
+    assertEquals(
+      "Node{name=\"root\", children=[Node{name=\"a\", children=[Node{name=\"style\", children=[]}]}, Node{name=\"b\", children=[Node{name=\"style\", children=[]}]}]}",
+      StringExaminer.simpleEscaping().examine(root)
+    );
+  }
+
+  @Test
+  void testCycle() {
+    final Node node = new Node("node");
+    node.children.add(node);
+    assertEquals("Node@1{name=\"node\", children=[@1]}", References.examine(StringExaminer.simpleEscaping(), node));
+  }
+
+  @Test
+  void testIdsPerExamination() {
+    final Node node = new Node("node");
+    assertEquals("Node@1{name=\"node\", children=[]}", References.examine(StringExaminer.simpleEscaping(), node));
+    assertEquals("Node@1{name=\"node\", children=[]}", References.examine(StringExaminer.simpleEscaping(), node));
+    // nested calls share ids with the outermost
+    assertEquals("@1", References.run(() -> {
+      StringExaminer.simpleEscaping().examine(node);
+      return References.examine(StringExaminer.simpleEscaping(), node);
+    }));
+  }
+
+  @Test
+  void testMultiLine() {
+    final Node style = new Node("style");
+    final Node root = new Node("root", style, style);
+    assertThat(References.examine(MultiLineStringExaminer.simpleEscaping(), root)).containsExactly(
+      "Node@1{",
+      "    \"name\" = \"root\",",
+      "    \"children\" = [",
+      "        Node@2{",
+      "            \"name\" = \"style\",",
+      "            \"children\" = []",
+      "        },",
+      "        @2",
+      "    ]",
+      "}"
+    );
+  }
+}
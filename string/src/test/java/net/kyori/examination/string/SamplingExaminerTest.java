@@ -0,0 +1,103 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SamplingExaminerTest {
+  @Test
+  void testEveryNth() {
+    final SamplingExaminer examiner = SamplingExaminer.everyNth(StringExaminer.simpleEscaping(), 3);
+    final Thing thing = new Thing();
+    final String summary = "Thing@" + Integer.toHexString(System.identityHashCode(thing));
+    assertEquals("Thing{name=\"thing\"}", examiner.examine(thing));
+    assertEquals(summary, examiner.examine(thing));
+    assertEquals(summary, examiner.examine((Object) thing));
+    assertEquals("Thing{name=\"thing\"}", examiner.examine(thing));
+    assertEquals(2, examiner.sampled());
+    assertEquals(2, examiner.summarised());
+  }
+
+  @Test
+  void testSummaries() {
+    final SamplingExaminer examiner = SamplingExaminer.everyNth(StringExaminer.simpleEscaping(), 2);
+    examiner.examine("sampled");
+    assertEquals("String(length=5)", examiner.examine("abcde"));
+    examiner.examine("sampled");
+    assertEquals("ArrayList(size=2)", examiner.examine(new ArrayList<>(Arrays.asList(1, 2))));
+    examiner.examine("sampled");
+    assertEquals("int[4]", examiner.examine(new int[4]));
+    examiner.examine("sampled");
+    assertEquals("int[4]", examiner.examine((Object) new int[4]));
+    examiner.examine("sampled");
+    assertEquals("String[1]", examiner.examine((Object) new String[1]));
+    // primitives are always examined, without taking a sample
+    assertEquals("12", examiner.examine(12));
+    assertEquals("12", examiner.examine((Object) 12));
+    assertEquals("\"sampled\"", examiner.examine("sampled"));
+  }
+
+  @Test
+  void testPerSecond() {
+    final SamplingExaminer examiner = SamplingExaminer.perSecond(StringExaminer.simpleEscaping(), 5);
+    for (int i = 0; i < 100; i++) {
+      examiner.examine("value");
+    }
+    assertTrue(examiner.sampled() >= 5 && examiner.sampled() <= 10, () -> "sampled " + examiner.sampled());
+    assertEquals(100, examiner.sampled() + examiner.summarised());
+  }
+
+  @Test
+  void testAdjust() {
+    final SamplingExaminer examiner = SamplingExaminer.perSecond(StringExaminer.simpleEscaping(), 1);
+    examiner.examine("value");
+    assertEquals("String(length=5)", examiner.examine("value"));
+    examiner.everyNth(1);
+    assertEquals("\"value\"", examiner.examine("value"));
+    assertThrows(IllegalArgumentException.class, () -> examiner.everyNth(0));
+    assertThrows(IllegalArgumentException.class, () -> examiner.perSecond(-1));
+  }
+
+  private static final class Thing implements Examinable {
+    @Override
+    public @NonNull String examinableName() {
+      return "Thing";
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(ExaminableProperty.of("name", "thing"));
+    }
+  }
+}
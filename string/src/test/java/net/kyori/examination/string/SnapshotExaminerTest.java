@@ -0,0 +1,136 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import net.kyori.examination.CancellationToken;
+import net.kyori.examination.ExaminationSnapshot;
+import net.kyori.examination.Projection;
+import net.kyori.examination.References;
+import net.kyori.examination.SnapshotExaminer;
+import net.kyori.examination.string.Examinables.ExaminableA;
+import net.kyori.examination.string.Examinables.ExaminableC;
+import net.kyori.examination.string.Examinables.ExaminableD;
+import net.kyori.examination.string.Examinables.Node;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class SnapshotExaminerTest {
+  private final SnapshotExaminer snapshots = SnapshotExaminer.instance();
+  private final StringExaminer examiner = StringExaminer.simpleEscaping();
+  private final MultiLineStringExaminer multiLineExaminer = MultiLineStringExaminer.simpleEscaping();
+
+  @Test
+  void testExaminable() {
+    this.assertRendersSame(new ExaminableA());
+  }
+
+  @Test
+  void testVisitingExaminable() {
+    this.assertRendersSame(new ExaminableD());
+  }
+
+  @Test
+  void testContainers() {
+    this.assertRendersSame(new String[]{"abc", null});
+    this.assertRendersSame(Arrays.asList("abc", 1, 2L, 'c', 1.5d, 2.5f, (short) 3, (byte) 4, true));
+    this.assertRendersSame(Collections.emptyList());
+    this.assertRendersSame(ImmutableMap.of("abc", ImmutableMap.of("def", 1), new ExaminableA(), Collections.singleton("ghi")));
+    this.assertRendersSame(new Object());
+    this.assertRendersSame(null);
+  }
+
+  @Test
+  void testPrimitiveArrays() {
+    this.assertRendersSame(new boolean[]{true, false, true});
+    this.assertRendersSame(new byte[]{Byte.MIN_VALUE, -1, 0, 1, Byte.MAX_VALUE});
+    this.assertRendersSame(new char[]{'a', '\n', Character.MAX_VALUE});
+    this.assertRendersSame(new double[]{-0d, 1.5d, Double.NaN, Double.MAX_VALUE});
+    this.assertRendersSame(new float[]{-0f, 1.5f, Float.MIN_VALUE});
+    this.assertRendersSame(new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE});
+    this.assertRendersSame(new long[]{Long.MIN_VALUE, -1L, 0L, Long.MAX_VALUE});
+    this.assertRendersSame(new short[]{Short.MIN_VALUE, -1, 0, Short.MAX_VALUE});
+    this.assertRendersSame(new int[0]);
+  }
+
+  @Test
+  void testStreams() {
+    assertEquals("[\"abc\", \"def\"]", this.snapshots.examine(Stream.of("abc", "def")).examine(this.examiner));
+    assertEquals("[1.3d, 2.4d]", this.snapshots.examine(DoubleStream.of(1.3d, 2.4d)).examine(this.examiner));
+    assertEquals("[1, 2]", this.snapshots.examine(IntStream.of(1, 2)).examine(this.examiner));
+  }
+
+  @Test
+  void testProjection() {
+    final Projection projection = Projection.include("ghi.pqr", "mno.vwx");
+    assertEquals("ExaminableA{ghi=ExaminableC{pqr=\"stu\"}}", projection.examine(this.snapshots, new ExaminableA()).examine(this.examiner));
+    assertEquals(projection.examine(this.examiner, new ExaminableD()), projection.examine(this.snapshots, new ExaminableD()).examine(this.examiner));
+    final Object map = ImmutableMap.of("a", 1, "b", Arrays.asList(2, 3));
+    assertEquals("{\"b\"=[2, 3]}", Projection.include("b").examine(this.snapshots, map).examine(this.examiner));
+  }
+
+  @Test
+  void testReferences() {
+    final Node node = new Node("node");
+    node.children.add(node);
+    assertEquals("Node@1{name=\"node\", children=[@1]}", References.examine(this.snapshots, node).examine(this.examiner));
+  }
+
+  @Test
+  void testCancelled() {
+    final CancellationToken token = CancellationToken.create();
+    token.cancel();
+    final ExaminationSnapshot snapshot = token.run(() -> this.snapshots.examine("ExaminableA", new ExaminableA().examinableProperties()));
+    assertEquals("ExaminableA{abc=...}", snapshot.examine(this.examiner));
+  }
+
+  @Test
+  void testExamineRepeatedly() {
+    final ExaminationSnapshot snapshot = this.snapshots.examine(new ExaminableA());
+    final String expected = this.examiner.examine(new ExaminableA());
+    assertEquals(expected, snapshot.examine(this.examiner));
+    assertEquals(expected, snapshot.examine(this.examiner));
+  }
+
+  @Test
+  void testEquality() {
+    assertEquals(this.snapshots.examine(new ExaminableA()), this.snapshots.examine(new ExaminableA()));
+    assertEquals(this.snapshots.examine(new ExaminableA()).hashCode(), this.snapshots.examine(new ExaminableA()).hashCode());
+    assertNotEquals(this.snapshots.examine(new ExaminableA()), this.snapshots.examine(new ExaminableC()));
+  }
+
+  private void assertRendersSame(final Object value) {
+    final ExaminationSnapshot snapshot = this.snapshots.examine(value);
+    assertEquals(this.examiner.examine(value), snapshot.examine(this.examiner));
+    assertEquals(this.multiLineExaminer.examine(value).collect(Collectors.toList()), snapshot.examine(this.multiLineExaminer).collect(Collectors.toList()));
+  }
+}
@@ -24,18 +24,33 @@
 package net.kyori.examination.string;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
-import net.kyori.examination.Examinable;
+import net.kyori.examination.CancellationToken;
 import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.References;
+import net.kyori.examination.string.Examinables.ExaminableA;
+import net.kyori.examination.string.Examinables.ExaminableB;
+import net.kyori.examination.string.Examinables.ExaminableC;
+import net.kyori.examination.string.Examinables.ExaminableD;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StringExaminerTest {
   private final StringExaminer examiner = StringExaminer.simpleEscaping();
@@ -78,6 +93,14 @@ class StringExaminerTest {
     assertEquals("ExaminableA{abc=\"def\", ghi=ExaminableC{jkl=\"mno\", pqr=\"stu\", vwx=\"yz\"}}", new ExaminableA().examine(this.examiner));
   }
 
+  @Test
+  void testExaminable_visitor() {
+    assertEquals("ExaminableD{abc=\"def\", ghi=12, jkl=[1, 2], mno=ExaminableC{jkl=\"mno\", pqr=\"stu\", vwx=\"yz\"}}", this.examiner.examine(new ExaminableD()));
+    assertEquals("ExaminableD{abc=\"def\", ghi=12, jkl=[1, 2], mno=ExaminableC{jkl=\"mno\", pqr=\"stu\", vwx=\"yz\"}}", this.examiner.examine((Object) new ExaminableD()));
+    // visiting the properties examines the same as streaming them
+    assertEquals(this.examiner.examine(new ExaminableD()), this.examiner.examine("ExaminableD", new ExaminableD().examinableProperties()));
+  }
+
   @Test
   void testMap_0() {
     assertEquals("{}", this.examiner.examine(Collections.emptyMap()));
@@ -234,6 +257,17 @@ class StringExaminerTest {
     assertEquals("[1.2d, 2.3d]", this.examiner.examine(new double[]{1.2d, 2.3d}));
   }
 
+  @Test
+  void testExamine_double_edges() {
+    final double[] values = {Double.NaN, Double.POSITIVE_INFINITY, -0.0d, 1.0e23d, 2.0e-3d, Double.MIN_VALUE, Double.MAX_VALUE, 123456789.125d};
+    final StringBuilder expected = new StringBuilder("[");
+    for (final double value : values) {
+      assertEquals(String.valueOf(value) + 'd', this.examiner.examine(value));
+      expected.append(expected.length() > 1 ? ", " : "").append(String.valueOf(value)).append('d');
+    }
+    assertEquals(expected.append(']').toString(), this.examiner.examine(values));
+  }
+
   @Test
   void testExamine_float() {
     assertEquals("0.4f", this.examiner.examine(0.4f));
@@ -254,6 +288,17 @@ class StringExaminerTest {
     assertEquals("[1.2f, 2.3f]", this.examiner.examine(new float[]{1.2f, 2.3f}));
   }
 
+  @Test
+  void testExamine_float_edges() {
+    final float[] values = {Float.NaN, Float.NEGATIVE_INFINITY, -0.0f, 1.0e10f, 2.0e-3f, Float.MIN_VALUE, Float.MAX_VALUE};
+    final StringBuilder expected = new StringBuilder("[");
+    for (final float value : values) {
+      assertEquals(String.valueOf(value) + 'f', this.examiner.examine(value));
+      expected.append(expected.length() > 1 ? ", " : "").append(String.valueOf(value)).append('f');
+    }
+    assertEquals(expected.append(']').toString(), this.examiner.examine(values));
+  }
+
   @Test
   void testExamine_int() {
     assertEquals("3", this.examiner.examine(3));
@@ -274,6 +319,17 @@ class StringExaminerTest {
     assertEquals("[1, 2]", this.examiner.examine(new int[]{1, 2}));
   }
 
+  @Test
+  void testExamine_int_array_subclass() {
+    final StringExaminer examiner = new StringExaminer(string -> string) {
+      @Override
+      public @NonNull String examine(final int value) {
+        return Integer.toHexString(value);
+      }
+    };
+    assertEquals("[a, ff]", examiner.examine(new int[]{10, 255}));
+  }
+
   @Test
   void testExamine_long() {
     assertEquals("3", this.examiner.examine(3L));
@@ -315,39 +371,171 @@ class StringExaminerTest {
   }
 
   @Test
-  void testString() {
-    assertEquals("\"abc\"", this.examiner.examine("abc"));
+  void testProperties() {
+    assertEquals("Properties{object=[], string=\"a\", boolean=true, byte=1, char='c', double=1.5d, float=2.5f, int=3, long=4, short=5, "
+      + "booleans=[false], bytes=[6], chars=['d'], doubles=[7.0d], floats=[8.0f], ints=[9], longs=[10], shorts=null}",
+      this.examiner.examine("Properties", Stream.of(
+        ExaminableProperty.of("object", Collections.emptyList()),
+        ExaminableProperty.of("string", "a"),
+        ExaminableProperty.of("boolean", true),
+        ExaminableProperty.of("byte", (byte) 1),
+        ExaminableProperty.of("char", 'c'),
+        ExaminableProperty.of("double", 1.5d),
+        ExaminableProperty.of("float", 2.5f),
+        ExaminableProperty.of("int", 3),
+        ExaminableProperty.of("long", 4L),
+        ExaminableProperty.of("short", (short) 5),
+        ExaminableProperty.of("booleans", new boolean[]{false}),
+        ExaminableProperty.of("bytes", new byte[]{6}),
+        ExaminableProperty.of("chars", new char[]{'d'}),
+        ExaminableProperty.of("doubles", new double[]{7}),
+        ExaminableProperty.of("floats", new float[]{8}),
+        ExaminableProperty.of("ints", new int[]{9}),
+        ExaminableProperty.of("longs", new long[]{10}),
+        ExaminableProperty.of("shorts", (short[]) null)
+      )));
+  }
+
+  @Test
+  void testLazyProperties() {
+    final AtomicInteger calls = new AtomicInteger();
+    final ExaminableProperty object = ExaminableProperty.lazy("object", () -> {
+      calls.incrementAndGet();
+      return Collections.singletonList("a");
+    });
+    final ExaminableProperty number = ExaminableProperty.lazy("int", () -> calls.incrementAndGet() * 3);
+    assertEquals("Lazy{object=[\"a\"], int=6, long=4, double=1.5d, boolean=true}", this.examiner.examine("Lazy", Stream.of(
+      object,
+      number,
+      ExaminableProperty.lazy("long", () -> 4L),
+      ExaminableProperty.lazy("double", () -> 1.5d),
+      ExaminableProperty.lazy("boolean", () -> true)
+    )));
+    assertEquals(2, calls.get());
+    // each value is only computed once
+    assertEquals("[\"a\"]", object.examine(this.examiner));
+    assertEquals("6", number.examine(this.examiner));
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void testLazyPropertiesRetained() {
+    // a property keeps the value it first computed, while a property created afresh computes it again
+    final AtomicInteger source = new AtomicInteger(1);
+    final ExaminableProperty retained = ExaminableProperty.lazy("a", source::get);
+    assertEquals("Lazy{a=1}", this.examiner.examine("Lazy", Stream.of(retained)));
+    source.set(2);
+    assertEquals("Lazy{a=1}", this.examiner.examine("Lazy", Stream.of(retained)));
+    assertEquals("Lazy{a=2}", this.examiner.examine("Lazy", Stream.of(ExaminableProperty.lazy("a", source::get))));
+  }
+
+  @Test
+  void testLazyPropertiesConcurrently() throws ExecutionException, InterruptedException {
+    final AtomicInteger calls = new AtomicInteger();
+    final ExaminableProperty property = ExaminableProperty.lazy("a", () -> Arrays.asList(calls.incrementAndGet(), "b"));
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Callable<String>> tasks = Collections.nCopies(64, () -> property.examine(this.examiner));
+      for (final Future<String> result : executor.invokeAll(tasks)) {
+        assertEquals("[1, \"b\"]", result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(1, calls.get());
   }
 
-  private static final class ExaminableA implements Examinable {
-    @Override
-    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
-      return Stream.of(
-        ExaminableProperty.of("abc", "def"),
-        ExaminableProperty.of("ghi", new ExaminableC())
-      );
-    }
+  @Test
+  void testLazyPropertiesNotExamined() {
+    final AtomicInteger calls = new AtomicInteger();
+    final CancellationToken token = CancellationToken.create();
+    assertEquals("Lazy{a=1, b=...}", token.run(() -> this.examiner.examine("Lazy", Stream.of(
+      ExaminableProperty.lazy("a", () -> {
+        token.cancel();
+        return calls.incrementAndGet();
+      }),
+      ExaminableProperty.lazy("b", calls::incrementAndGet),
+      ExaminableProperty.lazy("c", calls::incrementAndGet)
+    ))));
+    assertEquals(1, calls.get());
   }
 
-  private static class ExaminableB implements Examinable {
-    @Override
-    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
-      return Stream.of(
-        ExaminableProperty.of("jkl", "mno"),
-        ExaminableProperty.of("pqr", "stu")
-      );
-    }
+  @Test
+  void testSizedResults() {
+    final StringExaminer examiner = new StringExaminer(Strings::escape);
+    final String longer = Strings.repeat("abcdefghij", 100);
+    assertEquals("[\"a\", \"b\"]", examiner.examine(Arrays.asList("a", "b")));
+    assertEquals("[\"" + longer + "\", \"" + longer + "\"]", examiner.examine(Arrays.asList(longer, longer)));
+    assertEquals("{\"a\"=\"" + longer + "\"}", examiner.examine(ImmutableMap.of("a", longer)));
+    assertEquals("ExaminableB{jkl=\"mno\", pqr=\"stu\"}", examiner.examine(new ExaminableB()));
+    assertEquals("Long{value=\"" + longer + "\"}", examiner.examine("Long", Stream.of(ExaminableProperty.of("value", longer))));
   }
 
-  private static final class ExaminableC extends ExaminableB {
-    @Override
-    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
-      return Stream.concat(
-        super.examinableProperties(),
-        Stream.of(
-          ExaminableProperty.of("vwx", "yz")
-        )
-      );
+  @Test
+  void testAdaptiveLengths() {
+    final StringExaminer examiner = new StringExaminer(Strings::escape);
+    final String shorter = examiner.examine("Long", Stream.of(ExaminableProperty.of("value", "a")));
+    assertEquals(shorter.length(), examiner.examinableLengths().get("Long").intValue());
+    assertTrue(examiner.capacity("Long") >= shorter.length());
+
+    // moved an eighth of the way to each new length, until it is reached
+    final String longer = examiner.examine("Long", Stream.of(ExaminableProperty.of("value", Strings.repeat("abcdefghij", 20))));
+    for (int i = 0; i < 64; i++) {
+      examiner.examine("Long", Stream.of(ExaminableProperty.of("value", Strings.repeat("abcdefghij", 20))));
+    }
+    assertEquals(longer.length(), examiner.examinableLengths().get("Long").intValue());
+    assertTrue(examiner.capacity("Long") >= longer.length());
+
+    // ids given by References do not make a name of their own
+    References.run(() -> examiner.examine(new ExaminableA()));
+    assertTrue(examiner.examinableLengths().containsKey("ExaminableA"));
+    assertFalse(examiner.examinableLengths().keySet().stream().anyMatch(name -> name.contains("@")));
+
+    // pre-sized for 8 characters an element until elements are examined
+    assertEquals(8, examiner.elementLength());
+    for (int i = 0; i < 64; i++) {
+      examiner.examine(Arrays.asList("abcdefghijklmnopqrstuvwxyz01", "abcdefghijklmnopqrstuvwxyz01"));
+    }
+    // each element is quoted
+    assertEquals(30, examiner.elementLength());
+    assertTrue(examiner.capacity(2) >= examiner.examine(Arrays.asList("abcdefghijklmnopqrstuvwxyz01", "abcdefghijklmnopqrstuvwxyz01")).length());
+  }
+
+  @Test
+  void testConcurrentExaminations() throws ExecutionException, InterruptedException {
+    // only the lengths used to size results are kept between examinations, so an examiner shared between threads gives each the same result as alone
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final String examinable = new StringExaminer(Strings::escape).examine(new ExaminableA());
+      final List<Callable<Boolean>> tasks = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        final List<String> value = Collections.nCopies(i, Strings.repeat("x", i));
+        final String expected = new StringExaminer(Strings::escape).examine(value);
+        tasks.add(() -> expected.equals(this.examiner.examine(value)) && examinable.equals(this.examiner.examine(new ExaminableA())));
+      }
+      for (final Future<Boolean> result : executor.invokeAll(tasks)) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
     }
   }
+
+  @Test
+  void testEmptyElements() {
+    final Object empty = new Object() {
+      @Override
+      public String toString() {
+        return "";
+      }
+    };
+    assertEquals("[, ]", this.examiner.examine(Arrays.asList(empty, empty)));
+    assertEquals("[, ]", this.examiner.examine(Stream.of(empty, empty)));
+    assertEquals("{=}", this.examiner.examine(Collections.singletonMap(empty, empty)));
+  }
+
+  @Test
+  void testString() {
+    assertEquals("\"abc\"", this.examiner.examine("abc"));
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StringsTest {
+  private static final char[] CHARACTERS = {'a', 'z', ' ', '"', '\\', '\b', '\f', '\n', '\r', '\t', '\'', '\0', 'é', '\u2603'};
+
+  @Test
+  void testEscape_unchanged() {
+    final String string = "nothing to escape here, not even ' or \u2603";
+    assertSame(string, Strings.escape(string));
+    assertSame("", Strings.escape(""));
+  }
+
+  @Test
+  void testEscape() {
+    assertEquals("\\\\\"a\\\\b\\nc\\t", Strings.escape("\"a\\b\nc\t"));
+  }
+
+  @Test
+  void testEscape_matchesReplacement() {
+    final Random random = new Random(42);
+    for (int i = 0; i < 1000; i++) {
+      final char[] chars = new char[random.nextInt(64)];
+      for (int j = 0; j < chars.length; j++) {
+        chars[j] = CHARACTERS[random.nextInt(CHARACTERS.length)];
+      }
+      final String string = new String(chars);
+      assertEquals(replace(string), Strings.escape(string), string);
+    }
+  }
+
+  // the original escaper
+  private static String replace(final String string) {
+    return string
+      .replace("\"", "\\\"")
+      .replace("\\", "\\\\")
+      .replace("\b", "\\b")
+      .replace("\f", "\\f")
+      .replace("\n", "\\n")
+      .replace("\r", "\\r")
+      .replace("\t", "\\t");
+  }
+}
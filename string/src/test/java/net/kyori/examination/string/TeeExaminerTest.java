@@ -0,0 +1,106 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.References;
+import net.kyori.examination.TeeExaminer;
+import net.kyori.examination.string.Examinables.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TeeExaminerTest {
+  @Test
+  void testEachExaminerMatches() {
+    final Counted counted = new Counted();
+    final Object value = Arrays.asList(counted, ImmutableMap.of("a", new int[]{1, 2}), null, 'c', "d");
+    final StringBuilder sb = new StringBuilder();
+    final AppendingStringExaminer<StringBuilder> string = AppendingStringExaminer.simpleEscaping(sb);
+    final AbstractEventExaminerTest.Recorder recorder = new AbstractEventExaminerTest.Recorder();
+    final TeeExaminer.Results results = TeeExaminer.of(string, recorder).examine(value);
+    assertEquals(1, counted.examinations.get());
+    assertEquals(1, counted.computations.get());
+
+    assertEquals(StringExaminer.simpleEscaping().examine(value), results.result(string).toString());
+    assertEquals(new AbstractEventExaminerTest.Recorder().examine(value), results.result(recorder));
+    assertEquals(2, results.size());
+    assertEquals(recorder.examine(value), results.result(1));
+  }
+
+  @Test
+  void testNested() {
+    final AbstractEventExaminerTest.Recorder first = new AbstractEventExaminerTest.Recorder();
+    final AbstractEventExaminerTest.Recorder second = new AbstractEventExaminerTest.Recorder();
+    final TeeExaminer inner = TeeExaminer.of(second);
+    final TeeExaminer.Results results = TeeExaminer.of(Arrays.asList(first, inner)).examine(new Counted());
+    final List<String> expected = new AbstractEventExaminerTest.Recorder().examine(new Counted());
+    assertEquals(expected, results.result(first));
+    assertEquals(expected, results.result(inner).result(second));
+  }
+
+  @Test
+  void testReferences() {
+    final Node node = new Node("node");
+    node.children.add(node);
+    final Node shared = new Node("shared");
+    final Object value = Arrays.asList(node, shared, shared);
+    final AppendingStringExaminer<StringBuilder> string = AppendingStringExaminer.simpleEscaping(new StringBuilder());
+    final AbstractEventExaminerTest.Recorder recorder = new AbstractEventExaminerTest.Recorder();
+    final TeeExaminer.Results results = References.examine(TeeExaminer.of(string, recorder), value);
+    assertEquals("[Node@1{name=\"node\", children=[@1]}, Node@2{name=\"shared\", children=[]}, @2]", results.result(string).toString());
+    assertEquals(References.examine(new AbstractEventExaminerTest.Recorder(), value), results.result(recorder));
+  }
+
+  @Test
+  void testUnknownExaminer() {
+    final TeeExaminer.Results results = TeeExaminer.of(new AbstractEventExaminerTest.Recorder()).examine(1);
+    assertThrows(IllegalArgumentException.class, () -> results.result(new AbstractEventExaminerTest.Recorder()));
+  }
+
+  private static final class Counted implements Examinable {
+    final AtomicInteger examinations = new AtomicInteger();
+    final AtomicInteger computations = new AtomicInteger();
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      this.examinations.incrementAndGet();
+      return Stream.of(
+        ExaminableProperty.of("name", "counted"),
+        ExaminableProperty.lazy("expensive", () -> {
+          this.computations.incrementAndGet();
+          return 42;
+        })
+      );
+    }
+  }
+}
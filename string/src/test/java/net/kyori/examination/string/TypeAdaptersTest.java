@@ -0,0 +1,222 @@
+/*
+ * This file is part of examination, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.examination.string;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.IterativeExaminer;
+import net.kyori.examination.TypeAdapter;
+import net.kyori.examination.TypeAdapters;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TypeAdaptersTest {
+  private final StringExaminer examiner = StringExaminer.simpleEscaping();
+
+  @Test
+  void testUuid() {
+    final List<UUID> uuids = Arrays.asList(UUID.randomUUID(), new UUID(0, 0), new UUID(-1, -1), UUID.fromString("00000001-0002-0003-0004-000000000005"));
+    try {
+      TypeAdapters.registerDefaults();
+      for (final UUID uuid : uuids) {
+        assertEquals(uuid.toString(), this.examiner.examine(uuid));
+        assertEquals("[" + uuid + "]", this.examiner.examine(Collections.singletonList(uuid)));
+        assertEquals(this.examiner.examine(uuid), AppendingStringExaminer.simpleEscaping(new StringBuilder()).examine(uuid).toString());
+      }
+    } finally {
+      unregisterDefaults();
+    }
+  }
+
+  @Test
+  void testInstant() {
+    try {
+      TypeAdapters.registerDefaults();
+      for (final Instant instant : Arrays.asList(Instant.EPOCH, Instant.ofEpochSecond(1234567890, 123), Instant.MIN, Instant.MAX)) {
+        assertEquals(instant.toString(), this.examiner.examine(instant));
+      }
+    } finally {
+      unregisterDefaults();
+    }
+  }
+
+  @Test
+  void testWrittenScalars() {
+    // a subclass which examines scalars differently is given written scalars as text
+    final StringExaminer examiner = new StringExaminer(Strings::escape) {
+      @Override
+      protected @NonNull String scalar(final @NonNull Object value) {
+        return "<" + value + ">";
+      }
+    };
+    final UUID uuid = new UUID(1, 2);
+    try {
+      TypeAdapters.registerDefaults();
+      assertEquals("<" + uuid + ">", examiner.examine(uuid));
+    } finally {
+      unregisterDefaults();
+    }
+  }
+
+  @Test
+  void testOptional() {
+    // nothing is registered for types outside of the library's control
+    assertEquals("Optional[abc]", this.examiner.examine(Optional.of("abc")));
+    assertEquals("Optional.empty", this.examiner.examine(Optional.empty()));
+    assertEquals("OptionalInt[12]", this.examiner.examine(OptionalInt.of(12)));
+    try {
+      TypeAdapters.register(Optional.class, TypeAdapter.structured(optional -> new Examinable() {
+        @Override
+        public @NonNull String examinableName() {
+          return "Optional";
+        }
+
+        @Override
+        public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+          return optional.isPresent() ? Stream.of(ExaminableProperty.of("value", optional.get())) : Stream.empty();
+        }
+      }));
+      assertEquals("Optional{value=\"abc\"}", this.examiner.examine(Optional.of("abc")));
+      assertEquals("[Optional{}]", IterativeExaminer.of(this.examiner).examine(Arrays.asList(Optional.empty())));
+    } finally {
+      TypeAdapters.unregister(Optional.class);
+    }
+    assertEquals("Optional[abc]", this.examiner.examine(Optional.of("abc")));
+  }
+
+  @Test
+  void testDefaultOptionals() {
+    try {
+      TypeAdapters.registerDefaults();
+      assertEquals("Optional{value=\"abc\"}", this.examiner.examine(Optional.of("abc")));
+      assertEquals("Optional{}", this.examiner.examine(Optional.empty()));
+      assertEquals("OptionalInt{value=12}", this.examiner.examine(OptionalInt.of(12)));
+      assertEquals("OptionalLong{value=12}", this.examiner.examine(OptionalLong.of(12)));
+      assertEquals("OptionalDouble{value=0.5d}", this.examiner.examine(OptionalDouble.of(0.5d)));
+      assertEquals("[OptionalInt{}]", IterativeExaminer.of(this.examiner).examine(Arrays.asList(OptionalInt.empty())));
+    } finally {
+      unregisterDefaults();
+    }
+    assertEquals("OptionalInt[12]", this.examiner.examine(OptionalInt.of(12)));
+  }
+
+  @Test
+  void testBuffers() {
+    final ByteBuffer bytes = ByteBuffer.allocateDirect(100);
+    for (int i = 0; i < 100; i++) {
+      bytes.put((byte) (i * 7));
+    }
+    bytes.position(96);
+    assertEquals("ByteBuffer{remaining=4, elements=[a0, a7, ae, b5]}", this.examiner.examine(bytes));
+    assertEquals(96, bytes.position());
+    bytes.position(0);
+    final String window = this.examiner.examine(bytes);
+    assertTrue(window.startsWith("ByteBuffer{remaining=100, elements=[00, 07, 0e, 15, "), window);
+    assertTrue(window.endsWith(", ...]}"), window);
+    assertEquals(64 + 1, window.substring(window.indexOf('[') + 1, window.length() - 2).split(", ").length);
+    assertEquals(0, bytes.position());
+
+    assertEquals("ByteBuffer{remaining=0, elements=[]}", this.examiner.examine(ByteBuffer.allocate(0)));
+    // elements are examined as those of an array would be
+    assertEquals("CharBuffer{remaining=3, elements=['a', '\\n', 'c']}", this.examiner.examine(CharBuffer.wrap("a\nc")));
+    assertEquals("IntBuffer{remaining=2, elements=[2, 3]}", this.examiner.examine(IntBuffer.wrap(new int[]{1, 2, 3}, 1, 2)));
+    assertEquals("LongBuffer{remaining=1, elements=[-1]}", this.examiner.examine(LongBuffer.wrap(new long[]{-1}).asReadOnlyBuffer()));
+    assertEquals("DoubleBuffer{remaining=1, elements=[0.5d]}", this.examiner.examine(DoubleBuffer.wrap(new double[]{0.5d})));
+    assertEquals("FloatBuffer{remaining=1, elements=[1.5f]}", this.examiner.examine(FloatBuffer.wrap(new float[]{1.5f})));
+    final String shorts = this.examiner.examine(ShortBuffer.allocate(100));
+    assertTrue(shorts.startsWith("ShortBuffer{remaining=100, elements=[0, 0, ") && shorts.endsWith(", 0, ...]}"), shorts);
+
+    // through the events of an examiner which writes as it goes, too
+    assertEquals(this.examiner.examine(CharBuffer.wrap("a\nc")), AppendingStringExaminer.simpleEscaping(new StringBuilder()).examine(CharBuffer.wrap("a\nc")).toString());
+  }
+
+  @Test
+  void testRegistered() {
+    assertEquals("Point(1, 2)", this.examiner.examine(new Point(1, 2)));
+    try {
+      TypeAdapters.register(Point.class, TypeAdapter.scalar((point, builder) -> builder.append(point.x).append(',').append(point.y)));
+      assertEquals("1,2", this.examiner.examine(new Point(1, 2)));
+      // subclasses use the adapter of their superclass
+      assertEquals("3,4", this.examiner.examine(new Point(3, 4) { }));
+
+      TypeAdapters.register(Point.class, TypeAdapter.structured(point -> new Examinable() {
+        @Override
+        public @NonNull String examinableName() {
+          return "Point";
+        }
+
+        @Override
+        public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+          return Stream.of(ExaminableProperty.of("x", point.x), ExaminableProperty.of("y", point.y));
+        }
+      }));
+      assertEquals("Point{x=1, y=2}", this.examiner.examine(new Point(1, 2)));
+      assertEquals("[Point{x=1, y=2}]", IterativeExaminer.of(this.examiner).examine(new Point[]{new Point(1, 2)}));
+    } finally {
+      TypeAdapters.unregister(Point.class);
+    }
+    assertEquals("Point(1, 2)", this.examiner.examine(new Point(1, 2)));
+  }
+
+  private static void unregisterDefaults() {
+    for (final Class<?> type : Arrays.asList(UUID.class, Instant.class, Optional.class, OptionalDouble.class, OptionalInt.class, OptionalLong.class)) {
+      TypeAdapters.unregister(type);
+    }
+  }
+
+  private static class Point {
+    final int x;
+    final int y;
+
+    Point(final int x, final int y) {
+      this.x = x;
+      this.y = y;
+    }
+
+    @Override
+    public String toString() {
+      return "Point(" + this.x + ", " + this.y + ")";
+    }
+  }
+}